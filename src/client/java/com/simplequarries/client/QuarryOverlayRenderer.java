@@ -0,0 +1,137 @@
+package com.simplequarries.client;
+
+import com.simplequarries.network.QuarryOverlayPayload;
+import net.minecraft.client.render.RenderLayer;
+import net.minecraft.client.render.VertexConsumer;
+import net.minecraft.client.render.VertexConsumerProvider;
+import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Vec3d;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Draws the area, current layer and scan cursor of nearby quarries.
+ *
+ * Line geometry for each quarry is built once into a packed vertex array and only
+ * rebuilt when an update from the server changes it. Each frame just replays the
+ * cached arrays into the line buffer, so there is no per-frame box maths or world access.
+ */
+public final class QuarryOverlayRenderer {
+    private static final int AREA_COLOR = 0xFF55FFFF;
+    private static final int LAYER_COLOR = 0xFFFFAA00;
+    private static final int TARGET_COLOR = 0xFFFF5555;
+
+    // Per vertex: x, y, z (relative to the quarry's area origin), nx, ny, nz
+    private static final int FLOATS_PER_VERTEX = 6;
+
+    private static final Map<BlockPos, Overlay> OVERLAYS = new HashMap<>();
+
+    private QuarryOverlayRenderer() {}
+
+    private static final class Overlay {
+        QuarryOverlayPayload state;
+        float[] frame = new float[0];   // area outline, quarry down to the current layer
+        int[] frameColors = new int[0];
+        float[] target = new float[0];  // scan cursor box, changes every block
+    }
+
+    public static void accept(QuarryOverlayPayload payload) {
+        if (payload.isRemoval()) {
+            OVERLAYS.remove(payload.quarry());
+            return;
+        }
+
+        Overlay overlay = OVERLAYS.computeIfAbsent(payload.quarry(), pos -> new Overlay());
+        QuarryOverlayPayload previous = overlay.state;
+        overlay.state = payload;
+        if (previous == null || previous.minX() != payload.minX() || previous.minZ() != payload.minZ()
+                || previous.size() != payload.size() || previous.layerY() != payload.layerY()) {
+            buildFrame(overlay, payload);
+        }
+        if (previous == null || !previous.target().equals(payload.target())) {
+            overlay.target = box(payload.target().getX() - payload.minX(), payload.target().getY(),
+                    payload.target().getZ() - payload.minZ(), 1, 1, 1);
+        }
+    }
+
+    public static void clear() {
+        OVERLAYS.clear();
+    }
+
+    public static void render(MatrixStack matrices, VertexConsumerProvider consumers, Vec3d camera) {
+        if (OVERLAYS.isEmpty()) {
+            return;
+        }
+
+        VertexConsumer lines = consumers.getBuffer(RenderLayer.getLines());
+        for (Overlay overlay : OVERLAYS.values()) {
+            QuarryOverlayPayload state = overlay.state;
+            matrices.push();
+            matrices.translate(state.minX() - camera.x, -camera.y, state.minZ() - camera.z);
+            MatrixStack.Entry entry = matrices.peek();
+            emit(lines, entry, overlay.frame, overlay.frameColors, 0);
+            emit(lines, entry, overlay.target, null, TARGET_COLOR);
+            matrices.pop();
+        }
+    }
+
+    private static void buildFrame(Overlay overlay, QuarryOverlayPayload state) {
+        int size = state.size();
+        int top = state.quarry().getY();
+        float[] area = box(0, state.layerY() + 1, 0, size, top - state.layerY() - 1, size);
+        float[] layer = box(0, state.layerY(), 0, size, 1, size);
+
+        overlay.frame = new float[area.length + layer.length];
+        System.arraycopy(area, 0, overlay.frame, 0, area.length);
+        System.arraycopy(layer, 0, overlay.frame, area.length, layer.length);
+
+        overlay.frameColors = new int[overlay.frame.length / FLOATS_PER_VERTEX];
+        int areaVertices = area.length / FLOATS_PER_VERTEX;
+        for (int i = 0; i < overlay.frameColors.length; i++) {
+            overlay.frameColors[i] = i < areaVertices ? AREA_COLOR : LAYER_COLOR;
+        }
+    }
+
+    private static void emit(VertexConsumer lines, MatrixStack.Entry entry, float[] vertices, int[] colors, int color) {
+        for (int v = 0, i = 0; i < vertices.length; v++, i += FLOATS_PER_VERTEX) {
+            lines.vertex(entry, vertices[i], vertices[i + 1], vertices[i + 2])
+                    .color(colors != null ? colors[v] : color)
+                    .normal(entry, vertices[i + 3], vertices[i + 4], vertices[i + 5]);
+        }
+    }
+
+    /**
+     * The 12 edges of a box as line vertex pairs
+     */
+    private static float[] box(float x, float y, float z, float dx, float dy, float dz) {
+        float x2 = x + dx, y2 = y + Math.max(0, dy), z2 = z + dz;
+        float[] out = new float[12 * 2 * FLOATS_PER_VERTEX];
+        int[] cursor = { 0 };
+        // Edges along X
+        line(out, cursor, x, y, z, x2, y, z, 1, 0, 0);
+        line(out, cursor, x, y2, z, x2, y2, z, 1, 0, 0);
+        line(out, cursor, x, y, z2, x2, y, z2, 1, 0, 0);
+        line(out, cursor, x, y2, z2, x2, y2, z2, 1, 0, 0);
+        // Edges along Y
+        line(out, cursor, x, y, z, x, y2, z, 0, 1, 0);
+        line(out, cursor, x2, y, z, x2, y2, z, 0, 1, 0);
+        line(out, cursor, x, y, z2, x, y2, z2, 0, 1, 0);
+        line(out, cursor, x2, y, z2, x2, y2, z2, 0, 1, 0);
+        // Edges along Z
+        line(out, cursor, x, y, z, x, y, z2, 0, 0, 1);
+        line(out, cursor, x2, y, z, x2, y, z2, 0, 0, 1);
+        line(out, cursor, x, y2, z, x, y2, z2, 0, 0, 1);
+        line(out, cursor, x2, y2, z, x2, y2, z2, 0, 0, 1);
+        return out;
+    }
+
+    private static void line(float[] out, int[] cursor, float x1, float y1, float z1, float x2, float y2, float z2,
+                             float nx, float ny, float nz) {
+        int i = cursor[0];
+        out[i] = x1; out[i + 1] = y1; out[i + 2] = z1; out[i + 3] = nx; out[i + 4] = ny; out[i + 5] = nz;
+        out[i + 6] = x2; out[i + 7] = y2; out[i + 8] = z2; out[i + 9] = nx; out[i + 10] = ny; out[i + 11] = nz;
+        cursor[0] = i + 12;
+    }
+}
@@ -1,13 +1,81 @@
 package com.simplequarries.client;
 
 import com.simplequarries.SimpleQuarries;
+import com.simplequarries.fuel.QuarryFuels;
+import com.simplequarries.network.QuarryFuelsPayload;
+import com.simplequarries.network.QuarryOverlayPayload;
+import com.simplequarries.network.QuarryOverlayTogglePayload;
+import com.simplequarries.network.QuarryStatusPayload;
+import com.simplequarries.network.QuarryTerminalClosePayload;
 import com.simplequarries.screen.QuarryScreen;
+import com.simplequarries.screen.QuarryTerminalScreen;
 import net.fabricmc.api.ClientModInitializer;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.fabricmc.fabric.api.client.keybinding.v1.KeyBindingHelper;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
+import net.fabricmc.fabric.api.client.rendering.v1.world.WorldRenderEvents;
 import net.minecraft.client.gui.screen.ingame.HandledScreens;
+import net.minecraft.client.option.KeyBinding;
+import net.minecraft.client.util.InputUtil;
+import net.minecraft.text.Text;
+import net.minecraft.util.Identifier;
+import org.lwjgl.glfw.GLFW;
 
 public class SimpleQuarriesClient implements ClientModInitializer {
+    private static final KeyBinding.Category KEY_CATEGORY = KeyBinding.Category.create(Identifier.of(SimpleQuarries.MOD_ID, "main"));
+
+    private static KeyBinding toggleOverlayKey;
+    private static boolean overlayEnabled = false;
+
     @Override
     public void onInitializeClient() {
         HandledScreens.register(SimpleQuarries.QUARRY_SCREEN_HANDLER, QuarryScreen::new);
+        ClientPlayNetworking.registerGlobalReceiver(QuarryFuelsPayload.ID,
+                (payload, context) -> QuarryFuels.CLIENT.apply(payload.values()));
+
+        // Terminal: the first summary opens the screen, later ones update it
+        ClientPlayNetworking.registerGlobalReceiver(QuarryStatusPayload.ID, (payload, context) -> {
+            if (context.client().currentScreen instanceof QuarryTerminalScreen terminal) {
+                terminal.setEntries(payload.entries());
+            } else if (payload.open()) {
+                context.client().setScreen(new QuarryTerminalScreen(payload.entries()));
+            } else {
+                // The screen is gone but the server still thinks it is open
+                context.responseSender().sendPacket(QuarryTerminalClosePayload.INSTANCE);
+            }
+        });
+
+        // Area overlay
+        toggleOverlayKey = KeyBindingHelper.registerKeyBinding(new KeyBinding(
+                "key.simplequarries.toggle_overlay", InputUtil.Type.KEYSYM, GLFW.GLFW_KEY_O, KEY_CATEGORY));
+        ClientPlayNetworking.registerGlobalReceiver(QuarryOverlayPayload.ID,
+                (payload, context) -> QuarryOverlayRenderer.accept(payload));
+        ClientTickEvents.END_CLIENT_TICK.register(client -> {
+            while (toggleOverlayKey.wasPressed()) {
+                overlayEnabled = !overlayEnabled;
+                if (!overlayEnabled) {
+                    QuarryOverlayRenderer.clear();
+                }
+                if (ClientPlayNetworking.canSend(QuarryOverlayTogglePayload.ID)) {
+                    ClientPlayNetworking.send(new QuarryOverlayTogglePayload(overlayEnabled));
+                }
+                if (client.player != null) {
+                    client.player.sendMessage(Text.translatable(overlayEnabled
+                            ? "message.simplequarries.overlay_on"
+                            : "message.simplequarries.overlay_off"), true);
+                }
+            }
+        });
+        WorldRenderEvents.BEFORE_DEBUG_RENDER.register(context -> {
+            if (overlayEnabled && context.consumers() != null) {
+                QuarryOverlayRenderer.render(context.matrices(), context.consumers(),
+                        context.gameRenderer().getCamera().getCameraPos());
+            }
+        });
+        ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> {
+            overlayEnabled = false;
+            QuarryOverlayRenderer.clear();
+        });
     }
 }
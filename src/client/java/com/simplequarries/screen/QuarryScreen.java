@@ -33,12 +33,15 @@ public class QuarryScreen extends HandledScreen<QuarryScreenHandler> {
     private static final int TXT      = 4210752;
 
     private ButtonWidget filterButton;
+    private ButtonWidget fluidButton;
+    private ButtonWidget chunkButton;
+    private ButtonWidget areaButton;
 
     public QuarryScreen(QuarryScreenHandler handler, PlayerInventory inventory, Text title) {
         super(handler, inventory, title);
         this.backgroundWidth = 176;
-        this.backgroundHeight = 244;
-        this.playerInventoryTitleY = 146;
+        this.backgroundHeight = 256;
+        this.playerInventoryTitleY = 158;
     }
 
     @Override
@@ -55,22 +58,93 @@ public class QuarryScreen extends HandledScreen<QuarryScreenHandler> {
                     if (client != null && client.interactionManager != null)
                         client.interactionManager.clickButton(handler.syncId, 0);
                 }
-        ).dimensions(x + 8, y + 104, 88, 20).build();
+        ).dimensions(x + 8, y + 106, 88, 14).build();
         this.addDrawableChild(filterButton);
+
+        fluidButton = ButtonWidget.builder(
+                getFluidText(),
+                btn -> {
+                    if (client != null && client.interactionManager != null)
+                        client.interactionManager.clickButton(handler.syncId, 1);
+                }
+        ).dimensions(x + 8, y + 120, 88, 14).build();
+        this.addDrawableChild(fluidButton);
+
+        chunkButton = ButtonWidget.builder(
+                getChunkText(),
+                btn -> {
+                    if (client != null && client.interactionManager != null)
+                        client.interactionManager.clickButton(handler.syncId, 2);
+                }
+        ).dimensions(x + 8, y + 134, 88, 14).build();
+        this.addDrawableChild(chunkButton);
+
+        areaButton = ButtonWidget.builder(
+                getAreaText(),
+                btn -> {
+                    if (client != null && client.interactionManager != null)
+                        client.interactionManager.clickButton(handler.syncId, 3);
+                }
+        ).dimensions(x + 8, y + 148, 88, 14).build();
+        this.addDrawableChild(areaButton);
     }
 
     private Text getFilterText() {
         return switch (handler.getFilterMode()) {
             case QuarryBlockEntity.FILTER_WHITELIST -> Text.literal("§aFilter: Whitelist");
             case QuarryBlockEntity.FILTER_BLACKLIST -> Text.literal("§cFilter: Blacklist");
+            case QuarryBlockEntity.FILTER_ORES -> Text.literal("§6Filter: Ores only");
             default -> Text.literal("§7Filter: Disabled");
         };
     }
 
+    private Text getFluidText() {
+        return switch (handler.getFluidPolicy()) {
+            case QuarryBlockEntity.FLUID_DRAIN -> Text.literal("§bFluids: Drain");
+            case QuarryBlockEntity.FLUID_SEAL -> Text.literal("§eFluids: Seal");
+            default -> Text.literal("§7Fluids: Skip");
+        };
+    }
+
+    private Text getChunkText() {
+        return handler.isChunkLoaderEnabled()
+                ? Text.literal("§aChunk: Forced")
+                : Text.literal("§7Chunk: Catch-up");
+    }
+
+    private Text getAreaText() {
+        return switch (handler.getAreaMode()) {
+            case QuarryBlockEntity.AREA_CHUNK -> Text.literal("§bArea: Chunk");
+            case QuarryBlockEntity.AREA_LARGE -> Text.literal("§dArea: Large");
+            default -> Text.literal("§7Area: Centered");
+        };
+    }
+
+    private Text getStatusText() {
+        return getStatusText(handler.getStatus());
+    }
+
+    static Text getStatusText(int status) {
+        return switch (status) {
+            case QuarryBlockEntity.STATUS_MINING -> Text.literal("§aMining");
+            case QuarryBlockEntity.STATUS_CATCHING_UP -> Text.literal("§bCatching up");
+            case QuarryBlockEntity.STATUS_THROTTLED -> Text.literal("§6Throttled");
+            case QuarryBlockEntity.STATUS_PAUSED -> Text.literal("§7Paused (redstone)");
+            case QuarryBlockEntity.STATUS_NO_PICKAXE -> Text.literal("§cNo pickaxe");
+            case QuarryBlockEntity.STATUS_NO_FUEL -> Text.literal("§cNo fuel");
+            case QuarryBlockEntity.STATUS_FULL -> Text.literal("§eOutput full");
+            case QuarryBlockEntity.STATUS_FINISHED -> Text.literal("§aFinished");
+            default -> Text.literal("§7Idle");
+        };
+    }
+
     @Override
     protected void handledScreenTick() {
         super.handledScreenTick();
         if (filterButton != null) filterButton.setMessage(getFilterText());
+        if (fluidButton != null) fluidButton.setMessage(getFluidText());
+        if (chunkButton != null) chunkButton.setMessage(getChunkText());
+        if (areaButton != null) areaButton.setMessage(getAreaText());
     }
 
     @Override
@@ -142,7 +216,10 @@ public class QuarryScreen extends HandledScreen<QuarryScreenHandler> {
         // ── Separator ──
         drawSep(ctx, x + 7, y + 90, 162);
 
-        // ══════════ MIDDLE: Filter section ══════════
+        // ══════════ MIDDLE: Status + filter section ══════════
+
+        // Current quarry state, above the buttons
+        ctx.drawText(textRenderer, getStatusText(), x + 8, y + 96, 0xFFFFFFFF, true);
 
         // "Filter Items" label
         ctx.drawText(textRenderer, Text.literal("Filter Items"), x + 100, y + 88, TXT, false);
@@ -160,22 +237,23 @@ public class QuarryScreen extends HandledScreen<QuarryScreenHandler> {
                 drawSlot(ctx, gx + c * 18, gy + r * 18);
 
         // ── Separator ──
-        drawSep(ctx, x + 7, y + 152, 162);
+        drawSep(ctx, x + 7, y + 164, 162);
 
         // ══════════ BOTTOM: Player inventory ══════════
         for (int r = 0; r < 3; r++)
             for (int c = 0; c < 9; c++)
-                drawSlot(ctx, x + 7 + c * 18, y + 157 + r * 18);
+                drawSlot(ctx, x + 7 + c * 18, y + 169 + r * 18);
 
         // Hotbar (4px gap)
         for (int c = 0; c < 9; c++)
-            drawSlot(ctx, x + 7 + c * 18, y + 219);
+            drawSlot(ctx, x + 7 + c * 18, y + 231);
     }
 
     private int getFilterAccent() {
         return switch (handler.getFilterMode()) {
             case QuarryBlockEntity.FILTER_WHITELIST -> 0xFF44BB44;
             case QuarryBlockEntity.FILTER_BLACKLIST -> 0xFFBB4444;
+            case QuarryBlockEntity.FILTER_ORES -> 0xFFDDAA22;
             default -> 0xFF888888;
         };
     }
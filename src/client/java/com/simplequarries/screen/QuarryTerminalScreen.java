@@ -0,0 +1,92 @@
+package com.simplequarries.screen;
+
+import com.simplequarries.network.QuarryStatusPayload;
+import com.simplequarries.network.QuarryTerminalClosePayload;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
+import net.minecraft.client.gui.DrawContext;
+import net.minecraft.client.gui.screen.Screen;
+import net.minecraft.text.Text;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+
+import java.util.List;
+
+/**
+ * Client-side screen for the Quarry Terminal - one line per quarry the player owns.
+ * The list is replaced whenever the server sends a new summary.
+ */
+public class QuarryTerminalScreen extends Screen {
+    private static final int ROW_HEIGHT = 12;
+    private static final int TOP = 32;
+    private static final int TXT = 0xFFFFFFFF;
+    private static final int DIM = 0xFFA0A0A0;
+
+    private List<QuarryStatusPayload.Entry> entries;
+    private int scroll = 0;
+
+    public QuarryTerminalScreen(List<QuarryStatusPayload.Entry> entries) {
+        super(Text.translatable("screen.simplequarries.terminal"));
+        this.entries = entries;
+    }
+
+    public void setEntries(List<QuarryStatusPayload.Entry> entries) {
+        this.entries = entries;
+        scroll = MathHelper.clamp(scroll, 0, getMaxScroll());
+    }
+
+    @Override
+    public void render(DrawContext ctx, int mouseX, int mouseY, float delta) {
+        super.render(ctx, mouseX, mouseY, delta);
+        ctx.drawCenteredTextWithShadow(textRenderer, title, width / 2, 12, TXT);
+
+        if (entries.isEmpty()) {
+            ctx.drawCenteredTextWithShadow(textRenderer, Text.translatable("screen.simplequarries.terminal.empty"), width / 2, TOP, DIM);
+            return;
+        }
+
+        int left = Math.max(8, width / 2 - 200);
+        int rows = getVisibleRows();
+        for (int i = 0; i < rows && scroll + i < entries.size(); i++) {
+            QuarryStatusPayload.Entry entry = entries.get(scroll + i);
+            int y = TOP + i * ROW_HEIGHT;
+            BlockPos pos = entry.pos().pos();
+
+            ctx.drawText(textRenderer, Text.literal(entry.pos().dimension().getValue().getPath()
+                    + " " + pos.getX() + ", " + pos.getY() + ", " + pos.getZ()), left, y, entry.loaded() ? TXT : DIM, true);
+            ctx.drawText(textRenderer, entry.loaded() ? QuarryScreen.getStatusText(entry.status()) : Text.literal("§8Unloaded"),
+                    left + 150, y, TXT, true);
+            ctx.drawText(textRenderer, Text.literal("Y " + entry.layerY()), left + 230, y, DIM, true);
+            ctx.drawText(textRenderer, Text.literal("Fuel " + entry.fuel()), left + 270, y, DIM, true);
+            ctx.drawText(textRenderer, Text.literal(entry.fill() + "%"), left + 330, y,
+                    entry.fill() >= 90 ? 0xFFFF5555 : DIM, true);
+            ctx.drawText(textRenderer, Text.literal(entry.blocksPerMinute() + "/min"), left + 360, y, DIM, true);
+        }
+    }
+
+    @Override
+    public boolean mouseScrolled(double mouseX, double mouseY, double horizontalAmount, double verticalAmount) {
+        scroll = MathHelper.clamp(scroll - (int) Math.signum(verticalAmount), 0, getMaxScroll());
+        return true;
+    }
+
+    private int getVisibleRows() {
+        return Math.max(1, (height - TOP - 8) / ROW_HEIGHT);
+    }
+
+    private int getMaxScroll() {
+        return Math.max(0, entries.size() - getVisibleRows());
+    }
+
+    @Override
+    public void removed() {
+        super.removed();
+        if (ClientPlayNetworking.canSend(QuarryTerminalClosePayload.ID)) {
+            ClientPlayNetworking.send(QuarryTerminalClosePayload.INSTANCE);
+        }
+    }
+
+    @Override
+    public boolean shouldPause() {
+        return false;
+    }
+}
@@ -1,5 +1,7 @@
 package com.simplequarries;
 
+import com.simplequarries.component.QuarryComponents;
+import com.simplequarries.component.QuarryUpgradesComponent;
 import com.simplequarries.item.QuarryBlockItem;
 import net.minecraft.item.ItemStack;
 import net.minecraft.recipe.Ingredient;
@@ -66,17 +68,11 @@ public class QuarrySpeedUpgradeRecipe extends SpecialCraftingRecipe {
         }
 
         // Keep area upgrades, add speed upgrade
-        int currentAreaUpgrades = QuarryBlockItem.getUpgradeCount(quarryStack);
-        
+        QuarryUpgradesComponent upgrades = QuarryBlockItem.getUpgrades(quarryStack);
+
         ItemStack result = quarryStack.copy();
         result.setCount(1);
-        
-        // Set area upgrades (keep existing)
-        QuarryBlockItem.setUpgradeCount(result, currentAreaUpgrades);
-        
-        // Add speed upgrade
-        int upgradedSpeed = QuarryBlockItem.getSpeedUpgradeCount(quarryStack) + 1;
-        QuarryBlockItem.setSpeedUpgradeCount(result, upgradedSpeed);
+        result.set(QuarryComponents.QUARRY_UPGRADES, upgrades.withSpeed(upgrades.speed() + 1));
         
         return result;
     }
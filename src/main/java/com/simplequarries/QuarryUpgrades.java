@@ -1,5 +1,6 @@
 package com.simplequarries;
 
+import com.simplequarries.config.QuarryConfig;
 import net.minecraft.util.math.MathHelper;
 
 public final class QuarryUpgrades {
@@ -11,16 +12,20 @@ public final class QuarryUpgrades {
     public static final int AREA_UPGRADE_STEP = 2;
     public static final int MAX_AREA_UPGRADES = (MAX_AREA - BASE_AREA) / AREA_UPGRADE_STEP; // 5 upgrades -> 15x15
 
-    // Speed upgrades
+    // Speed upgrades (the multiplier for each step comes from the server config)
     public static final int MAX_SPEED_UPGRADES = 5;
-    private static final double[] SPEED_MULTIPLIERS = {
-        1.0,      // Base (no upgrades)
-        0.8,      // -20% speed
-        0.6,      // -40% speed
-        0.4,      // -60% speed
-        0.2,      // -80% speed
-        0.0       // -100% speed (instant)
-    };
+
+    // Widest square a quarry scans layer by layer (large areas scan one 16x16 chunk column at a time)
+    public static final int MAX_SCAN_SIZE = 16;
+
+    /**
+     * Column offsets within a square scan area, x-fastest then z, so the cursor never divides.
+     * {@code x()[i]} and {@code z()[i]} are the offsets of area index i from the area's corner.
+     */
+    public record ColumnOffsets(int[] x, int[] z) {
+    }
+
+    private static final ColumnOffsets[] COLUMN_OFFSETS = createColumnOffsets();
 
     public static int clampUpgradeCount(int value) {
         return MathHelper.clamp(value, 0, MAX_AREA_UPGRADES);
@@ -36,7 +41,28 @@ public final class QuarryUpgrades {
 
     public static double speedMultiplierForCount(int upgradeCount) {
         int count = clampSpeedCount(upgradeCount);
-        return SPEED_MULTIPLIERS[count];
+        return QuarryConfig.get().getSpeedMultiplier(count);
+    }
+
+    /**
+     * Offset tables for a scan area of {@code size} x {@code size} columns (1 to {@link #MAX_SCAN_SIZE})
+     */
+    public static ColumnOffsets columnOffsets(int size) {
+        return COLUMN_OFFSETS[MathHelper.clamp(size, 1, MAX_SCAN_SIZE)];
+    }
+
+    private static ColumnOffsets[] createColumnOffsets() {
+        ColumnOffsets[] tables = new ColumnOffsets[MAX_SCAN_SIZE + 1];
+        for (int size = 1; size <= MAX_SCAN_SIZE; size++) {
+            int[] x = new int[size * size];
+            int[] z = new int[size * size];
+            for (int i = 0; i < x.length; i++) {
+                x[i] = i % size;
+                z[i] = i / size;
+            }
+            tables[size] = new ColumnOffsets(x, z);
+        }
+        return tables;
     }
 
     public static int getMaxAreaUpgrades() {
@@ -1,14 +1,28 @@
 package com.simplequarries;
 
 import com.simplequarries.block.QuarryBlock;
+import com.simplequarries.block.QuarryControllerBlock;
 import com.simplequarries.block.entity.QuarryBlockEntity;
+import com.simplequarries.block.entity.QuarryControllerBlockEntity;
+import com.simplequarries.command.QuarryCommands;
 import com.simplequarries.component.QuarryComponents;
+import com.simplequarries.config.QuarryConfig;
+import com.simplequarries.fuel.QuarryFuels;
 import com.simplequarries.item.QuarryBlockItem;
 import com.simplequarries.item.QuarrySpeedUpgradeTemplateItem;
+import com.simplequarries.item.QuarryTerminalItem;
 import com.simplequarries.item.QuarryUpgradeTemplateItem;
 import com.simplequarries.recipe.QuarryUpgradeRecipe;
 import com.simplequarries.loot.QuarryLootInjectors;
+import com.simplequarries.mining.BlockClassifier;
+import com.simplequarries.mining.QuarryScheduler;
+import com.simplequarries.network.QuarryNetworking;
 import com.simplequarries.screen.QuarryScreenHandler;
+import com.simplequarries.world.ForcedChunkLedger;
+import com.simplequarries.world.QuarryAreaClaims;
+import com.simplequarries.world.QuarryControllerIndex;
+import com.simplequarries.world.QuarryIndex;
+import com.simplequarries.world.QuarryStatusBoard;
 import net.fabricmc.api.ModInitializer;
 import net.fabricmc.fabric.api.itemgroup.v1.ItemGroupEvents;
 import net.fabricmc.fabric.api.object.builder.v1.block.entity.FabricBlockEntityTypeBuilder;
@@ -16,6 +30,7 @@ import net.fabricmc.fabric.api.screenhandler.v1.ExtendedScreenHandlerType;
 import net.minecraft.block.AbstractBlock;
 import net.minecraft.block.Block;
 import net.minecraft.block.entity.BlockEntityType;
+import net.minecraft.item.BlockItem;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemGroups;
 import net.minecraft.recipe.RecipeSerializer;
@@ -36,16 +51,22 @@ public class SimpleQuarries implements ModInitializer {
     // Declare fields - will be initialized in onInitialize
     public static Block QUARRY_BLOCK;
     public static QuarryBlockItem QUARRY_BLOCK_ITEM;
+    public static Block QUARRY_CONTROLLER_BLOCK;
+    public static Item QUARRY_CONTROLLER_ITEM;
+    public static Item QUARRY_TERMINAL;
     public static Item QUARRY_UPGRADE_TEMPLATE;
     public static Item QUARRY_SPEED_UPGRADE_TEMPLATE;
     public static BlockEntityType<QuarryBlockEntity> QUARRY_BLOCK_ENTITY;
+    public static BlockEntityType<QuarryControllerBlockEntity> QUARRY_CONTROLLER_BLOCK_ENTITY;
     public static ScreenHandlerType<QuarryScreenHandler> QUARRY_SCREEN_HANDLER;
     public static RecipeSerializer<QuarryUpgradeRecipe> QUARRY_UPGRADE_RECIPE_SERIALIZER;
     public static RecipeSerializer<QuarrySpeedUpgradeRecipe> QUARRY_SPEED_UPGRADE_RECIPE_SERIALIZER;
 
     @Override
     public void onInitialize() {
+        QuarryConfig.load();
         QuarryComponents.register();
+        QuarryNetworking.register();
 
         // Create the block registry key
         Identifier quarryId = Identifier.of(MOD_ID, "quarry");
@@ -69,6 +90,33 @@ public class SimpleQuarries implements ModInitializer {
                 new QuarryBlockItem(QUARRY_BLOCK, new Item.Settings().registryKey(quarryItemKey).useBlockPrefixedTranslationKey())
         );
 
+        // Register the controller block and its item
+        Identifier controllerId = Identifier.of(MOD_ID, "quarry_controller");
+        RegistryKey<Block> controllerBlockKey = RegistryKey.of(RegistryKeys.BLOCK, controllerId);
+        RegistryKey<Item> controllerItemKey = RegistryKey.of(RegistryKeys.ITEM, controllerId);
+        QUARRY_CONTROLLER_BLOCK = Registry.register(
+                Registries.BLOCK,
+                controllerBlockKey,
+                new QuarryControllerBlock(AbstractBlock.Settings.create()
+                        .registryKey(controllerBlockKey)
+                        .strength(4.0f)
+                        .requiresTool())
+        );
+        QUARRY_CONTROLLER_ITEM = Registry.register(
+                Registries.ITEM,
+                controllerItemKey,
+                new BlockItem(QUARRY_CONTROLLER_BLOCK, new Item.Settings().registryKey(controllerItemKey).useBlockPrefixedTranslationKey())
+        );
+
+        // Register the terminal item
+        Identifier terminalId = Identifier.of(MOD_ID, "quarry_terminal");
+        RegistryKey<Item> terminalKey = RegistryKey.of(RegistryKeys.ITEM, terminalId);
+        QUARRY_TERMINAL = Registry.register(
+                Registries.ITEM,
+                terminalKey,
+                new QuarryTerminalItem(new Item.Settings().registryKey(terminalKey).maxCount(1))
+        );
+
         // Register the area upgrade template item
         Identifier templateId = Identifier.of(MOD_ID, "quarry_upgrade_template");
         RegistryKey<Item> templateKey = RegistryKey.of(RegistryKeys.ITEM, templateId);
@@ -93,6 +141,11 @@ public class SimpleQuarries implements ModInitializer {
                 Identifier.of(MOD_ID, "quarry"),
                 FabricBlockEntityTypeBuilder.create(QuarryBlockEntity::new, QUARRY_BLOCK).build()
         );
+        QUARRY_CONTROLLER_BLOCK_ENTITY = Registry.register(
+                Registries.BLOCK_ENTITY_TYPE,
+                controllerId,
+                FabricBlockEntityTypeBuilder.create(QuarryControllerBlockEntity::new, QUARRY_CONTROLLER_BLOCK).build()
+        );
 
         // Register the screen handler type using the new ExtendedScreenHandlerType with packet codec
         QUARRY_SCREEN_HANDLER = Registry.register(
@@ -116,11 +169,22 @@ public class SimpleQuarries implements ModInitializer {
         // Add to functional item group
         ItemGroupEvents.modifyEntriesEvent(ItemGroups.FUNCTIONAL).register(entries -> {
             entries.add(QUARRY_BLOCK_ITEM);
+            entries.add(QUARRY_CONTROLLER_ITEM);
+            entries.add(QUARRY_TERMINAL);
             entries.add(QUARRY_UPGRADE_TEMPLATE);
             entries.add(QUARRY_SPEED_UPGRADE_TEMPLATE);
         });
 
         QuarryLootInjectors.register();
+        QuarryFuels.register();
+        QuarryScheduler.register();
+        BlockClassifier.register();
+        QuarryCommands.register();
+        QuarryIndex.register();
+        QuarryControllerIndex.register();
+        QuarryStatusBoard.register();
+        QuarryAreaClaims.register();
+        ForcedChunkLedger.register();
         LOGGER.info("Simple Quarries loaded");
     }
 }
\ No newline at end of file
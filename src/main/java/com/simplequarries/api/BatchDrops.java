@@ -0,0 +1,29 @@
+package com.simplequarries.api;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+
+import java.util.List;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Read-only view of everything a mining batch dropped, merged per item.
+ * See {@link QuarryEvents#AFTER_BATCH}.
+ */
+public interface BatchDrops {
+    /**
+     * Number of items across all drops
+     */
+    int getTotalCount();
+
+    /**
+     * Visit drops without components (nearly all of them) as item and total count
+     */
+    void forEachPlain(ObjIntConsumer<Item> action);
+
+    /**
+     * Merged drops that carry components. Counts may exceed the item's max stack size.
+     * The stacks must not be modified.
+     */
+    List<ItemStack> stacksWithComponents();
+}
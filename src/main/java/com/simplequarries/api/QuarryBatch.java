@@ -0,0 +1,46 @@
+package com.simplequarries.api;
+
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * The positions a quarry has picked for one mining batch, see {@link QuarryEvents#BEFORE_BATCH}.
+ * Positions are kept packed with {@link BlockPos#asLong} so a batch allocates nothing.
+ * Only valid during the event call.
+ */
+public interface QuarryBatch {
+    /**
+     * Number of positions about to be broken
+     */
+    int size();
+
+    /**
+     * Position at {@code index} in mining order, packed with {@link BlockPos#asLong}
+     */
+    long getPackedPos(int index);
+
+    /**
+     * Position at {@code index} written into {@code out}, for listeners that want to avoid allocating
+     */
+    default BlockPos.Mutable getPos(int index, BlockPos.Mutable out) {
+        return out.set(getPackedPos(index));
+    }
+
+    /**
+     * Keep the block at {@code index} from being broken
+     */
+    void veto(int index);
+
+    boolean isVetoed(int index);
+
+    /**
+     * Keep the block at a position from being broken; does nothing if it isn't part of the batch
+     */
+    default void veto(BlockPos pos) {
+        long packed = pos.asLong();
+        for (int i = 0; i < size(); i++) {
+            if (getPackedPos(i) == packed) {
+                veto(i);
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.simplequarries.api;
+
+import com.simplequarries.block.entity.QuarryBlockEntity;
+import it.unimi.dsi.fastutil.longs.LongList;
+import net.fabricmc.fabric.api.event.Event;
+import net.fabricmc.fabric.api.event.EventFactory;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * Events for mods that need to know what quarries break.
+ *
+ * Quarries break blocks without a player, so the usual block-break callbacks never see
+ * them. These events are fired per mining batch - everything one quarry mines in one
+ * tick - rather than per block, so a listener costs the same whether a quarry mines one
+ * block a tick or sixty-four. All of them run on the server thread.
+ */
+public final class QuarryEvents {
+    /**
+     * Called with the positions a quarry is about to break, before any of them is touched.
+     * Listeners may veto positions (claims, protected areas); vetoed blocks are left
+     * standing and the quarry moves on, as if a filter had skipped them.
+     */
+    public static final Event<BeforeBatch> BEFORE_BATCH = EventFactory.createArrayBacked(BeforeBatch.class,
+            listeners -> (world, quarry, batch) -> {
+                for (BeforeBatch listener : listeners) {
+                    listener.beforeBatch(world, quarry, batch);
+                }
+            });
+
+    /**
+     * Called after a batch with the positions that were actually broken and everything
+     * they dropped, merged per item. Drops are reported before the quarry's filter and
+     * storage see them, so voided drops are included.
+     */
+    public static final Event<AfterBatch> AFTER_BATCH = EventFactory.createArrayBacked(AfterBatch.class,
+            listeners -> (world, quarry, broken, drops) -> {
+                for (AfterBatch listener : listeners) {
+                    listener.afterBatch(world, quarry, broken, drops);
+                }
+            });
+
+    /**
+     * Called after a batch for each layer the quarry finished with it, top layer first.
+     * Layers skipped without mining (ores-only sections without ore) are reported too.
+     */
+    public static final Event<LayerComplete> LAYER_COMPLETE = EventFactory.createArrayBacked(LayerComplete.class,
+            listeners -> (world, quarry, layerY) -> {
+                for (LayerComplete listener : listeners) {
+                    listener.onLayerComplete(world, quarry, layerY);
+                }
+            });
+
+    private QuarryEvents() {}
+
+    @FunctionalInterface
+    public interface BeforeBatch {
+        void beforeBatch(ServerWorld world, QuarryBlockEntity quarry, QuarryBatch batch);
+    }
+
+    @FunctionalInterface
+    public interface AfterBatch {
+        /**
+         * @param broken positions broken in this batch, in mining order, packed with {@link BlockPos#asLong};
+         *               read-only, valid only during the call
+         * @param drops the batch's drops; read-only, valid only during the call
+         */
+        void afterBatch(ServerWorld world, QuarryBlockEntity quarry, LongList broken, BatchDrops drops);
+    }
+
+    @FunctionalInterface
+    public interface LayerComplete {
+        void onLayerComplete(ServerWorld world, QuarryBlockEntity quarry, int layerY);
+    }
+}
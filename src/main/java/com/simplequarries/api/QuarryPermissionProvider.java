@@ -0,0 +1,22 @@
+package com.simplequarries.api;
+
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.ChunkPos;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.UUID;
+
+/**
+ * Decides whether a quarry may change blocks in a chunk, e.g. by asking a claims mod.
+ * Register one with {@link QuarryPermissions#register}.
+ */
+@FunctionalInterface
+public interface QuarryPermissionProvider {
+    /**
+     * Called at most once per chunk and quarry until the cache is invalidated, so it may
+     * be as slow as a claims lookup needs to be. Never load the chunk from here.
+     *
+     * @param owner the player who placed the quarry, null for quarries without an owner
+     */
+    boolean canMine(ServerWorld world, ChunkPos chunk, @Nullable UUID owner);
+}
@@ -0,0 +1,59 @@
+package com.simplequarries.api;
+
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.ChunkPos;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Registry of {@link QuarryPermissionProvider}s.
+ *
+ * Every quarry caches the answer for each chunk it touches, so the check on each mined
+ * block is a bit lookup. Call {@link #invalidate()} when claims or trust change; cached
+ * answers are also dropped after {@code permissionCacheTicks} for providers that can't
+ * tell when their data changed. A chunk may be mined only if every provider allows it.
+ */
+public final class QuarryPermissions {
+    private static final List<QuarryPermissionProvider> PROVIDERS = new CopyOnWriteArrayList<>();
+    private static volatile int generation = 0;
+
+    private QuarryPermissions() {}
+
+    public static void register(QuarryPermissionProvider provider) {
+        PROVIDERS.add(provider);
+        invalidate();
+    }
+
+    /**
+     * Make every quarry ask the providers again before it touches another block
+     */
+    public static void invalidate() {
+        generation++;
+    }
+
+    public static boolean hasProviders() {
+        return !PROVIDERS.isEmpty();
+    }
+
+    /**
+     * Changes every time cached answers become stale
+     */
+    public static int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Ask all providers, uncached
+     */
+    public static boolean canMine(ServerWorld world, ChunkPos chunk, @Nullable UUID owner) {
+        for (QuarryPermissionProvider provider : PROVIDERS) {
+            if (!provider.canMine(world, chunk, owner)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -2,6 +2,8 @@ package com.simplequarries.block;
 
 import com.simplequarries.SimpleQuarries;
 import com.simplequarries.block.entity.QuarryBlockEntity;
+import com.simplequarries.component.QuarryUpgradesComponent;
+import com.simplequarries.config.QuarryConfig;
 import com.simplequarries.item.QuarryBlockItem;
 import com.mojang.serialization.MapCodec;
 import net.minecraft.block.Block;
@@ -11,6 +13,8 @@ import net.minecraft.block.BlockWithEntity;
 import net.minecraft.block.entity.BlockEntity;
 import net.minecraft.block.entity.BlockEntityTicker;
 import net.minecraft.block.entity.BlockEntityType;
+import net.minecraft.component.DataComponentTypes;
+import net.minecraft.entity.ItemEntity;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.inventory.Inventory;
@@ -27,9 +31,13 @@ import net.minecraft.util.ItemScatterer;
 import net.minecraft.util.hit.BlockHitResult;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Direction;
+import net.minecraft.world.GameRules;
 import net.minecraft.world.World;
+import net.minecraft.world.explosion.Explosion;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.function.BiConsumer;
+
 public class QuarryBlock extends BlockWithEntity {
     public static final EnumProperty<Direction> FACING = Properties.HORIZONTAL_FACING;
 
@@ -83,7 +91,10 @@ public class QuarryBlock extends BlockWithEntity {
             BlockEntity blockEntity = world.getBlockEntity(pos);
             if (blockEntity instanceof QuarryBlockEntity quarry) {
                 quarry.onRemoved(world);
-                ItemScatterer.spawn(world, pos, quarry);
+                // Unless they left inside the dropped item; /setblock, hand-breaking and the like drop no item
+                if (!quarry.hasDroppedContents()) {
+                    ItemScatterer.spawn(world, pos, quarry);
+                }
                 world.updateComparators(pos, this);
             }
         }
@@ -91,6 +102,43 @@ public class QuarryBlock extends BlockWithEntity {
         super.onStateReplaced(state, world, pos, moved);
     }
 
+    @Override
+    public BlockState onBreak(World world, BlockPos pos, BlockState state, PlayerEntity player) {
+        if (world instanceof ServerWorld serverWorld && QuarryConfig.get().keepContentsOnBreak
+                && world.getBlockEntity(pos) instanceof QuarryBlockEntity quarry) {
+            if (player.isCreative()) {
+                // Creative players get no loot, so hand out the filled quarry like a shulker box does
+                if (!quarry.isEmpty()) {
+                    ItemStack stack = new ItemStack(this);
+                    stack.applyComponentsFrom(quarry.createComponentMap());
+                    ItemEntity entity = new ItemEntity(serverWorld, pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5, stack);
+                    entity.setToDefaultPickupDelay();
+                    serverWorld.spawnEntity(entity);
+                }
+                quarry.markContentsDropped();
+            } else if (player.canHarvest(state) && serverWorld.getGameRules().getBoolean(GameRules.DO_TILE_DROPS)) {
+                // The loot table copies the contents into the item once the block is gone
+                quarry.markContentsDropped();
+            }
+        }
+        return super.onBreak(world, pos, state, player);
+    }
+
+    @Override
+    protected void onExploded(BlockState state, ServerWorld world, BlockPos pos, Explosion explosion, BiConsumer<ItemStack, BlockPos> stackMerger) {
+        if (world.getBlockEntity(pos) instanceof QuarryBlockEntity quarry) {
+            // Drops are rolled before the block is removed; only skip scattering if the filled item survived
+            super.onExploded(state, world, pos, explosion, (stack, dropPos) -> {
+                if (stack.isOf(asItem()) && stack.contains(DataComponentTypes.CONTAINER)) {
+                    quarry.markContentsDropped();
+                }
+                stackMerger.accept(stack, dropPos);
+            });
+            return;
+        }
+        super.onExploded(state, world, pos, explosion, stackMerger);
+    }
+
     @Override
     protected ActionResult onUse(BlockState state, World world, BlockPos pos, PlayerEntity player, BlockHitResult hit) {
         if (world.isClient()) {
@@ -109,8 +157,12 @@ public class QuarryBlock extends BlockWithEntity {
     public void onPlaced(World world, BlockPos pos, BlockState state, LivingEntity placer, ItemStack itemStack) {
         super.onPlaced(world, pos, state, placer, itemStack);
         if (world.getBlockEntity(pos) instanceof QuarryBlockEntity quarry) {
-            quarry.setUpgradeCount(QuarryBlockItem.getUpgradeCount(itemStack));
-            quarry.setSpeedUpgradeCount(QuarryBlockItem.getSpeedUpgradeCount(itemStack));
+            QuarryUpgradesComponent upgrades = QuarryBlockItem.getUpgrades(itemStack);
+            quarry.setUpgradeCount(upgrades.area());
+            quarry.setSpeedUpgradeCount(upgrades.speed());
+            if (placer instanceof PlayerEntity player) {
+                quarry.setOwner(player.getUuid());
+            }
         }
     }
 
@@ -0,0 +1,82 @@
+package com.simplequarries.block;
+
+import com.simplequarries.block.entity.QuarryControllerBlockEntity;
+import com.mojang.serialization.MapCodec;
+import net.minecraft.block.BlockRenderType;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.BlockWithEntity;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.screen.ScreenHandler;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.ActionResult;
+import net.minecraft.util.ItemScatterer;
+import net.minecraft.util.hit.BlockHitResult;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Shared storage that nearby quarries deliver their drops to. It has no ticker:
+ * quarries push into it, automation pulls from it.
+ */
+public class QuarryControllerBlock extends BlockWithEntity {
+    public QuarryControllerBlock(Settings settings) {
+        super(settings);
+    }
+
+    @Override
+    protected MapCodec<? extends BlockWithEntity> getCodec() {
+        return createCodec(QuarryControllerBlock::new);
+    }
+
+    @Override
+    public BlockRenderType getRenderType(BlockState state) {
+        return BlockRenderType.MODEL;
+    }
+
+    @Nullable
+    @Override
+    public BlockEntity createBlockEntity(BlockPos pos, BlockState state) {
+        return new QuarryControllerBlockEntity(pos, state);
+    }
+
+    @Override
+    protected void onStateReplaced(BlockState state, ServerWorld world, BlockPos pos, boolean moved) {
+        if (!state.isOf(world.getBlockState(pos).getBlock())) {
+            BlockEntity blockEntity = world.getBlockEntity(pos);
+            if (blockEntity instanceof QuarryControllerBlockEntity controller) {
+                ItemScatterer.spawn(world, pos, controller);
+                world.updateComparators(pos, this);
+            }
+        }
+
+        super.onStateReplaced(state, world, pos, moved);
+    }
+
+    @Override
+    protected ActionResult onUse(BlockState state, World world, BlockPos pos, PlayerEntity player, BlockHitResult hit) {
+        if (world.isClient()) {
+            return ActionResult.SUCCESS;
+        }
+
+        BlockEntity blockEntity = world.getBlockEntity(pos);
+        if (blockEntity instanceof QuarryControllerBlockEntity controller) {
+            player.openHandledScreen(controller);
+        }
+
+        return ActionResult.CONSUME;
+    }
+
+    @Override
+    protected boolean hasComparatorOutput(BlockState state) {
+        return true;
+    }
+
+    @Override
+    protected int getComparatorOutput(BlockState state, World world, BlockPos pos, Direction direction) {
+        BlockEntity blockEntity = world.getBlockEntity(pos);
+        return blockEntity instanceof QuarryControllerBlockEntity controller ? ScreenHandler.calculateComparatorOutput(controller) : 0;
+    }
+}
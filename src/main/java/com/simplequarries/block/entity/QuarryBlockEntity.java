@@ -2,18 +2,57 @@ package com.simplequarries.block.entity;
 
 import com.simplequarries.QuarryUpgrades;
 import com.simplequarries.SimpleQuarries;
+import com.simplequarries.api.QuarryEvents;
+import com.simplequarries.component.QuarryComponents;
+import com.simplequarries.component.QuarryStateComponent;
+import com.simplequarries.component.QuarryUpgradesComponent;
+import com.simplequarries.config.QuarryConfig;
+import com.simplequarries.fuel.QuarryFuels;
+import com.simplequarries.mining.BlockClassifier;
+import com.simplequarries.mining.ChunkPermissionCache;
+import com.simplequarries.mining.ChunkPrefetcher;
+import com.simplequarries.mining.DropAccumulator;
+import com.simplequarries.mining.LayerPlanner;
+import com.simplequarries.mining.MiningBatch;
+import com.simplequarries.mining.PickaxeWear;
+import com.simplequarries.mining.QuarryScheduler;
+import com.simplequarries.mining.SlotInsertion;
 import com.simplequarries.screen.QuarryScreenHandler;
+import com.simplequarries.world.ForcedChunkLedger;
+import com.simplequarries.world.QuarryAreaClaims;
+import com.simplequarries.world.QuarryControllerIndex;
+import com.simplequarries.world.QuarryIndex;
+import com.simplequarries.world.QuarryStatusBoard;
+import com.mojang.serialization.Codec;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongLists;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.longs.LongSets;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
 import net.fabricmc.fabric.api.screenhandler.v1.ExtendedScreenHandlerFactory;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.block.FallingBlock;
+import net.minecraft.block.FluidBlock;
 import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.block.entity.ShulkerBoxBlockEntity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.entity.player.PlayerInventory;
 import net.minecraft.inventory.Inventories;
 import net.minecraft.inventory.Inventory;
 import net.minecraft.inventory.SidedInventory;
 import net.minecraft.enchantment.Enchantment;
+import net.minecraft.component.ComponentMap;
+import net.minecraft.component.DataComponentTypes;
+import net.minecraft.component.type.ContainerComponent;
 import net.minecraft.component.type.ItemEnchantmentsComponent;
+import net.minecraft.item.BlockItem;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.Items;
@@ -21,23 +60,29 @@ import net.minecraft.screen.PropertyDelegate;
 import net.minecraft.screen.ScreenHandler;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
+import net.minecraft.state.property.Properties;
 import net.minecraft.storage.ReadView;
 import net.minecraft.storage.WriteView;
 import net.minecraft.registry.RegistryKey;
 import net.minecraft.registry.entry.RegistryEntry;
 import net.minecraft.text.Text;
+import net.minecraft.util.Uuids;
 import net.minecraft.util.collection.DefaultedList;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.util.math.Direction;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.Vec3d;
+import net.minecraft.util.math.random.Random;
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.WorldChunk;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 
 /**
  * Quarry Block Entity - handles the quarry mining logic
@@ -63,6 +108,37 @@ public class QuarryBlockEntity extends BlockEntity implements ExtendedScreenHand
     public static final int FILTER_DISABLED = 0;
     public static final int FILTER_WHITELIST = 1;
     public static final int FILTER_BLACKLIST = 2;
+    public static final int FILTER_ORES = 3;  // only break blocks in the configured ore tag, leave the rock
+
+    // Fluid policies
+    public static final int FLUID_SKIP = 0;   // leave fluids untouched; mined waterlogged blocks leave their fluid behind
+    public static final int FLUID_DRAIN = 1;  // remove fluids in the layer without scheduling flow ticks
+    public static final int FLUID_SEAL = 2;   // drain the layer and wall off fluids on its perimeter
+
+    // Area modes
+    public static final int AREA_CENTERED = 0;  // square around the quarry, sized by area upgrades
+    public static final int AREA_CHUNK = 1;     // exactly the 16x16 chunk the quarry stands in
+    public static final int AREA_LARGE = 2;     // a square of whole chunks, mined one chunk column at a time
+
+    // Status shown in the GUI
+    public static final int STATUS_IDLE = 0;
+    public static final int STATUS_MINING = 1;
+    public static final int STATUS_CATCHING_UP = 2;
+    public static final int STATUS_THROTTLED = 3;   // the server is lagging and other quarries go first
+    public static final int STATUS_PAUSED = 4;      // redstone signal
+    public static final int STATUS_NO_PICKAXE = 5;
+    public static final int STATUS_NO_FUEL = 6;
+    public static final int STATUS_FULL = 7;        // output full with the pause overflow policy
+    public static final int STATUS_FINISHED = 8;
+
+    private static final int CONTROLLER_SEARCH_INTERVAL = 100;  // Ticks between controller lookups
+
+    private static final Codec<List<Long>> PACKED_LONGS_CODEC = Codec.LONG.listOf();
+
+    // Block flags used when the quarry edits fluids: sync to clients, but never wake up neighbours
+    private static final int SILENT_UPDATE_FLAGS = Block.NOTIFY_LISTENERS | Block.FORCE_STATE;
+    private static final long NO_TARGET = Long.MAX_VALUE;  // Packs to a position far past the world border
+    private static final int FORCED_KEY_UNKNOWN = Integer.MIN_VALUE;  // Saved forced chunks not yet checked against the wanted ones
 
     // Sided inventory slot access arrays
     private static final int[] TOP_SLOTS = { FUEL_SLOT };
@@ -80,39 +156,10 @@ public class QuarryBlockEntity extends BlockEntity implements ExtendedScreenHand
             Items.NETHERITE_PICKAXE
     );
 
-    // Fuel burn times mapped to blocks mined
-    private static final Map<Item, Integer> FUEL_VALUES = Map.ofEntries(
-            Map.entry(Items.COAL, 8),
-            Map.entry(Items.CHARCOAL, 8),
-            Map.entry(Items.BLAZE_ROD, 12),
-            Map.entry(Items.DRIED_KELP_BLOCK, 20),
-            Map.entry(Items.COAL_BLOCK, 80),
-            Map.entry(Items.LAVA_BUCKET, 100),
-            Map.entry(Items.STICK, 1),
-            Map.entry(Items.BAMBOO, 1),
-            Map.entry(Items.OAK_LOG, 2),
-            Map.entry(Items.SPRUCE_LOG, 2),
-            Map.entry(Items.BIRCH_LOG, 2),
-            Map.entry(Items.JUNGLE_LOG, 2),
-            Map.entry(Items.ACACIA_LOG, 2),
-            Map.entry(Items.DARK_OAK_LOG, 2),
-            Map.entry(Items.MANGROVE_LOG, 2),
-            Map.entry(Items.CHERRY_LOG, 2),
-            Map.entry(Items.OAK_PLANKS, 2),
-            Map.entry(Items.SPRUCE_PLANKS, 2),
-            Map.entry(Items.BIRCH_PLANKS, 2),
-            Map.entry(Items.JUNGLE_PLANKS, 2),
-            Map.entry(Items.ACACIA_PLANKS, 2),
-            Map.entry(Items.DARK_OAK_PLANKS, 2),
-            Map.entry(Items.MANGROVE_PLANKS, 2),
-            Map.entry(Items.CHERRY_PLANKS, 2),
-            Map.entry(Items.BAMBOO_PLANKS, 2)
-    );
-
     // Inventory storage
     private final DefaultedList<ItemStack> items = DefaultedList.ofSize(INVENTORY_SIZE, ItemStack.EMPTY);
 
-    // Property delegate for syncing data to the screen (6 properties now)
+    // Property delegate for syncing data to the screen (9 properties now)
     private final PropertyDelegate propertyDelegate = new PropertyDelegate() {
         @Override
         public int get(int index) {
@@ -122,7 +169,10 @@ public class QuarryBlockEntity extends BlockEntity implements ExtendedScreenHand
                 case 2 -> miningProgress;
                 case 3 -> ticksPerBlock;
                 case 4 -> filterMode;
-                case 5 -> 1; // chunk loading always enabled
+                case 5 -> isChunkLoading() ? 1 : 0;
+                case 6 -> fluidPolicy;
+                case 7 -> status;
+                case 8 -> areaMode;
                 default -> 0;
             };
         }
@@ -134,14 +184,17 @@ public class QuarryBlockEntity extends BlockEntity implements ExtendedScreenHand
                 case 1 -> lastFuelTime = value;
                 case 2 -> miningProgress = value;
                 case 3 -> ticksPerBlock = value;
-                case 4 -> filterMode = MathHelper.clamp(value, 0, 2);
-                case 5 -> {} // chunk loading always enabled, ignore
+                case 4 -> filterMode = MathHelper.clamp(value, 0, 3);
+                case 5 -> chunkLoading = value != 0;
+                case 6 -> fluidPolicy = MathHelper.clamp(value, 0, 2);
+                case 7 -> status = value;
+                case 8 -> areaMode = MathHelper.clamp(value, 0, 2);
             }
         }
 
         @Override
         public int size() {
-            return 6;
+            return 9;
         }
     };
 
@@ -155,10 +208,45 @@ public class QuarryBlockEntity extends BlockEntity implements ExtendedScreenHand
     private int upgradeCount = 0;
     private int speedUpgradeCount = 0;
     private int filterMode = FILTER_DISABLED;
-    private boolean wasChunkForced = false;  // Track if we forced the chunk
+    private int fluidPolicy = FLUID_SKIP;
+    private int areaMode = AREA_CENTERED;
+    private int chunkIndex = 0;  // Large areas: which chunk column is being mined, x-fastest within the area
+    private int preparedDepth = 0;  // Layer whose fluids have already been handled (not saved, re-preparing is harmless)
+    private final LayerPlanner layerPlanner = new LayerPlanner();
+    private final DropAccumulator pendingDrops = new DropAccumulator();  // Drops of the batch being mined
+    private final MiningBatch batch = new MiningBatch();                 // Targets picked for the current slice
+    private final LongList brokenPositions = new LongArrayList();       // Packed, reported to AFTER_BATCH listeners
+    private final LongList brokenView = LongLists.unmodifiable(brokenPositions);
+    private final IntList completedLayers = new IntArrayList();          // Reported to LAYER_COMPLETE listeners
+    private final ChunkPrefetcher chunkPrefetcher = new ChunkPrefetcher();
+    private final ChunkPermissionCache permissions = new ChunkPermissionCache();
+    private final BlockPos.Mutable scanCursor = new BlockPos.Mutable();  // Reused by findNextTarget for every attempt
+    private final BlockPos.Mutable breakCursor = new BlockPos.Mutable(); // Reused for each block of a batch
+    private final LongSet wantedChunks = new LongOpenHashSet();        // Scratch set for updateChunkLoading
+    private final long ownChunk;                                       // Packed ChunkPos of the quarry itself
+    private final Random random = Random.create();
+    private boolean chunkLoading = true;     // Force the chunk while mining; otherwise catch up after reloads
+    private final LongSet forcedChunks = new LongOpenHashSet();  // Chunks this quarry currently forces
+    private int forcedKey = -1;              // What forcedChunks was last computed for (-1 = nothing forced)
+    private boolean areaClaimed = false;     // Claims are only held while mining, see QuarryAreaClaims
+    private final LongList handedOver = new LongArrayList();  // Columns taken over from a released quarry, packed at the next Y to check
+    private long vettedColumn = NO_TARGET;   // Last handed-over column already checked for claims and permissions
+    private long lastActiveTime = 0;         // World time of the last tick spent mining, 0 when idle
+    private int catchUpBlocks = 0;           // Blocks still owed from time spent unloaded
+    private int starvedTicks = 0;            // Ticks in a row the scheduler had no time left for this quarry
+    private boolean throttled = false;       // Set by the scheduler while the server is over its MSPT threshold
+    private int status = STATUS_IDLE;
+    private long blocksMined = 0;
+    private boolean contentsDropped = false; // Set right before removal when the contents leave inside the dropped item
+    @Nullable
+    private BlockPos controllerPos = null;   // Linked controller (not saved, found again after loading)
+    private long nextControllerSearch = 0;
+    @Nullable
+    private UUID owner = null;               // Player who placed the quarry, used to rank quarries when throttling
 
     public QuarryBlockEntity(BlockPos pos, BlockState state) {
         super(SimpleQuarries.QUARRY_BLOCK_ENTITY, pos, state);
+        this.ownChunk = ChunkPos.toLong(pos);
     }
 
     /**
@@ -168,67 +256,109 @@ public class QuarryBlockEntity extends BlockEntity implements ExtendedScreenHand
         if (world.isClient()) {
             return;
         }
+        // Only meaningful within the tick the quarry is broken in
+        quarry.contentsDropped = false;
 
         ServerWorld serverWorld = (ServerWorld) world;
+        QuarryConfig config = QuarryConfig.get();
         boolean dirty = false;
         ItemStack pickaxe = quarry.getStack(PICKAXE_SLOT);
 
         // Redstone control: if powered, pause mining
         if (world.isReceivingRedstonePower(pos)) {
-            quarry.resetProgress();
-            quarry.updateChunkLoading(serverWorld, false);
+            quarry.stopMining(serverWorld, STATUS_PAUSED);
             return;
         }
 
         // Check if we have a valid pickaxe
         if (!quarry.isValidPickaxe(pickaxe)) {
-            quarry.resetProgress();
+            quarry.stopMining(serverWorld, STATUS_NO_PICKAXE);
             quarry.ticksPerBlock = 0;
-            quarry.updateChunkLoading(serverWorld, false);
             return;
         }
 
         // Update mining speed based on pickaxe tier + speed upgrades
-        quarry.ticksPerBlock = quarry.getTicksPerBlockFor(pickaxe);
+        double rawTicks = quarry.getRawTicksPerBlock(pickaxe);
+        quarry.ticksPerBlock = rawTicks < 0 ? 0 : Math.max(1, (int) Math.round(rawTicks));
 
-        // Check fuel - consume new fuel if needed
-        if (quarry.burnTime <= 0) {
-            if (!quarry.tryConsumeFuel()) {
-                quarry.resetProgress();
-                quarry.updateChunkLoading(serverWorld, false);
-                return;
-            }
+        // Pull fuel into the buffer - a whole stack at once if it fits
+        if (quarry.absorbFuel()) {
             dirty = true;
         }
+        if (quarry.burnTime <= 0) {
+            quarry.lastFuelTime = 0;
+            quarry.stopMining(serverWorld, STATUS_NO_FUEL);
+            return;
+        }
 
         // Safety check
         if (quarry.ticksPerBlock <= 0) {
-            quarry.resetProgress();
-            quarry.updateChunkLoading(serverWorld, false);
+            quarry.stopMining(serverWorld, STATUS_IDLE);
             return;
         }
 
-        // Quarry is actively mining - update chunk loading
+        // Quarry is actively mining - update chunk loading and claim the area
         quarry.updateChunkLoading(serverWorld, true);
+        if (!quarry.areaClaimed) {
+            quarry.updateAreaClaim(serverWorld);
+        }
+        quarry.scheduleCatchUp(serverWorld, pickaxe, config.getBlocksPerCycle(rawTicks));
+
+        // While the server is lagging, lower priority quarries hold their progress and wait
+        if (quarry.throttled) {
+            quarry.status = STATUS_THROTTLED;
+            quarry.miningProgress = Math.min(quarry.miningProgress, quarry.ticksPerBlock);
+            return;
+        }
+
+        if (config.getOverflowPolicy() == QuarryConfig.OverflowPolicy.PAUSE && quarry.getFreeOutputCapacity() == 0) {
+            quarry.status = STATUS_FULL;
+            quarry.miningProgress = Math.min(quarry.miningProgress, quarry.ticksPerBlock);
+            return;
+        }
+        quarry.status = quarry.catchUpBlocks > 0 ? STATUS_CATCHING_UP : STATUS_MINING;
 
         // Increment mining progress
         quarry.miningProgress++;
 
-        // Check if we've completed mining a block
-        if (quarry.miningProgress >= quarry.ticksPerBlock) {
-            quarry.miningProgress = 0;
+        // Check if we've completed mining a block (or several, once upgrades push past one per tick)
+        int budget = quarry.miningProgress >= quarry.ticksPerBlock ? config.getBlocksPerCycle(rawTicks) : 0;
 
-            // Find and mine the next block
-            BlockPos target = quarry.findNextTarget(serverWorld);
-            if (target != null) {
-                if (quarry.breakBlock(serverWorld, target, pickaxe)) {
-                    quarry.burnTime = Math.max(0, quarry.burnTime - 1);
-                    dirty = true;
-                }
+        // Work missed while the chunk was unloaded is done a slice per tick, as long as it fits
+        int catchUp = 0;
+        if (quarry.catchUpBlocks > 0) {
+            if (quarry.getFreeOutputCapacity() > 0) {
+                catchUp = Math.min(quarry.catchUpBlocks, config.catchUpBlocksPerTick);
             } else {
+                quarry.catchUpBlocks = 0;
+            }
+        }
+
+        if (budget + catchUp > 0) {
+            if (!QuarryScheduler.hasBudget(quarry.starvedTicks)) {
+                // Out of mining time for this server tick - keep the progress and try again next tick
+                quarry.starvedTicks++;
+                quarry.miningProgress = Math.min(quarry.miningProgress, quarry.ticksPerBlock);
+                return;
+            }
+            quarry.starvedTicks = 0;
+            if (budget > 0) {
+                quarry.miningProgress = 0;
+            }
+
+            long batchStart = System.nanoTime();
+            long minedBefore = quarry.blocksMined;
+            boolean finished = quarry.mineBatch(serverWorld, budget + catchUp);
+            QuarryScheduler.record(System.nanoTime() - batchStart);
+            // Only blocks actually mined past the regular budget pay off the debt; a batch cut short
+            // by fuel, the pickaxe, a loading chunk or a full output keeps the rest owed
+            int mined = (int) (quarry.blocksMined - minedBefore);
+            quarry.catchUpBlocks -= MathHelper.clamp(mined - budget, 0, catchUp);
+            dirty = true;
+
+            if (finished) {
                 // Quarry has finished mining its entire area
-                quarry.resetProgress();
-                quarry.updateChunkLoading(serverWorld, false);
+                quarry.stopMining(serverWorld, STATUS_FINISHED);
                 // Play level-up sound so the player knows
                 world.playSound(null, pos, net.minecraft.sound.SoundEvents.ENTITY_PLAYER_LEVELUP,
                     net.minecraft.sound.SoundCategory.BLOCKS, 1.0f, 1.0f);
@@ -241,32 +371,389 @@ public class QuarryBlockEntity extends BlockEntity implements ExtendedScreenHand
         }
     }
 
+    /**
+     * Mine up to {@code budget} blocks in one go, report the batch to {@link QuarryEvents},
+     * then move everything it dropped into the outputs with one filter check and one
+     * insertion per distinct item.
+     *
+     * @return true if there was nothing left to mine
+     */
+    private boolean mineBatch(ServerWorld world, int budget) {
+        boolean finished = mineBlocks(world, budget);
+        if (!brokenPositions.isEmpty()) {
+            QuarryEvents.AFTER_BATCH.invoker().afterBatch(world, this, brokenView, pendingDrops);
+            brokenPositions.clear();
+        }
+        for (int i = 0; i < completedLayers.size(); i++) {
+            QuarryEvents.LAYER_COMPLETE.invoker().onLayerComplete(world, this, completedLayers.getInt(i));
+        }
+        completedLayers.clear();
+        flushDrops(world);
+        return finished;
+    }
+
+    /**
+     * Break up to {@code budget} blocks, refuelling as needed, collecting drops in {@link #pendingDrops}.
+     * Stops early when the pickaxe breaks or the fuel runs out.
+     * Pickaxe durability is applied once per batch, and a batch never mines more
+     * blocks than the pickaxe has durability left so it can't outlive its tool.
+     *
+     * Targets are collected before anything is broken so BEFORE_BATCH listeners see the
+     * whole batch. The cursor doesn't come back to positions it has passed, so fuel and
+     * (with the pause policy) output space are settled before collecting, not per block.
+     */
+    private boolean mineBlocks(ServerWorld world, int budget) {
+        boolean pauseWhenFull = QuarryConfig.get().getOverflowPolicy() == QuarryConfig.OverflowPolicy.PAUSE;
+        int remaining = budget;
+        while (remaining > 0) {
+            ItemStack pickaxe = getStack(PICKAXE_SLOT);
+            if (!isValidPickaxe(pickaxe)) {
+                return false;
+            }
+
+            int limit = pickaxe.isDamageable()
+                    ? PickaxeWear.batchLimit(remaining, pickaxe.getMaxDamage() - pickaxe.getDamage())
+                    : remaining;
+            if (burnTime < limit) {
+                absorbFuel();
+            }
+            limit = Math.min(limit, burnTime);
+            if (pauseWhenFull) {
+                // One item per block; Fortune extras past the last free slot are handled by the overflow policy
+                limit = Math.min(limit, getFreeOutputCapacity() - pendingDrops.getTotalCount());
+            }
+            if (limit <= 0) {
+                return false;
+            }
+            remaining -= limit;
+
+            boolean finished = false;
+            boolean gaveUp = false;
+            while (batch.size() < limit) {
+                long target = findNextTarget(world);
+                if (target == NO_TARGET) {
+                    finished = isAreaFinished(world);
+                    gaveUp = true;
+                    break;
+                }
+                batch.add(target);
+            }
+
+            int mined = 0;
+            if (!batch.isEmpty()) {
+                QuarryEvents.BEFORE_BATCH.invoker().beforeBatch(world, this, batch);
+                for (int i = 0; i < batch.size(); i++) {
+                    long target = batch.getPackedPos(i);
+                    if (!batch.isVetoed(i) && breakBlock(world, breakCursor.set(target), pickaxe)) {
+                        burnTime = Math.max(0, burnTime - 1);
+                        brokenPositions.add(target);
+                        mined++;
+                    }
+                }
+                batch.clear();
+            }
+
+            damagePickaxe(pickaxe, mined);
+            blocksMined += mined;
+            if (finished) {
+                return true;
+            }
+            if (gaveUp) {
+                // A chunk is still loading or the scan budget ran out - scanning again from the same cursor won't help this tick
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private void stopMining(ServerWorld world, int newStatus) {
+        status = newStatus;
+        resetProgress();
+        updateChunkLoading(world, false);
+        releaseAreaClaim(world);
+        lastActiveTime = 0;
+        catchUpBlocks = 0;
+    }
+
+    // ==================== Area ====================
+
+    public int getAreaMode() {
+        return areaMode;
+    }
+
+    /**
+     * Switch between the centered square and the quarry's chunk. The scan starts over from
+     * the top, since the layers already mined belong to the old area.
+     */
+    public void setAreaMode(int mode) {
+        mode = MathHelper.clamp(mode, 0, 2);
+        if (mode == areaMode) {
+            return;
+        }
+        // Released before the cursor moves so neighbours take over from the layer actually reached
+        if (world instanceof ServerWorld serverWorld) {
+            releaseAreaClaim(serverWorld);
+        }
+        areaMode = mode;
+        chunkIndex = 0;
+        currentDepth = 1;
+        areaIndex = 0;
+        preparedDepth = 0;
+        handedOver.clear();
+        layerPlanner.invalidate();
+        markDirty();
+    }
+
+    public void cycleAreaMode() {
+        setAreaMode((areaMode + 1) % 3);
+    }
+
+    /**
+     * Move a large-area quarry on to its next chunk column once the current one is mined out
+     *
+     * @return false if there is no next chunk
+     */
+    private boolean nextChunk() {
+        if (areaMode != AREA_LARGE || chunkIndex + 1 >= getLargeAreaChunkCount()) {
+            return false;
+        }
+        chunkIndex++;
+        currentDepth = 1;
+        areaIndex = 0;
+        preparedDepth = 0;
+        layerPlanner.invalidate();
+        markDirty();
+        return true;
+    }
+
+    /**
+     * Whether the scan has gone past the bottom of the world in the last part of the area
+     */
+    private boolean isAreaFinished(ServerWorld world) {
+        return pos.getY() - currentDepth < world.getBottomY()
+                && (areaMode != AREA_LARGE || chunkIndex + 1 >= getLargeAreaChunkCount());
+    }
+
+    // ==================== Throttling ====================
+
+    @Nullable
+    public UUID getOwner() {
+        return owner;
+    }
+
+    public void setOwner(@Nullable UUID owner) {
+        this.owner = owner;
+        permissions.reset();
+        markDirty();
+    }
+
+    public void setThrottled(boolean throttled) {
+        this.throttled = throttled;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    // ==================== Status Board ====================
+
+    /**
+     * Blocks mined over the quarry's whole life, used for the terminal's blocks-per-minute rate
+     */
+    public long getBlocksMined() {
+        return blocksMined;
+    }
+
+    public int getBurnTime() {
+        return burnTime;
+    }
+
+    /**
+     * How full the output slots are, 0 to 100
+     */
+    public int getFillPercent() {
+        float fill = 0.0f;
+        for (int i = OUTPUT_START; i < getOutputEnd(); i++) {
+            ItemStack stack = items.get(i);
+            if (!stack.isEmpty()) {
+                fill += (float) stack.getCount() / Math.min(getMaxCountPerStack(), stack.getMaxCount());
+            }
+        }
+        return Math.round(fill * 100.0f / QuarryConfig.get().outputSlots);
+    }
+
     // ==================== Chunk Loading ====================
 
     /**
-     * Update chunk loading state based on whether the quarry is actively mining
+     * Chunks this quarry is currently forcing, see {@link ForcedChunkLedger}
+     */
+    public LongSet getForcedChunks() {
+        return LongSets.unmodifiable(forcedChunks);
+    }
+
+    /**
+     * Whether this quarry forces its chunk, after applying the server's chunk loading policy
+     */
+    public boolean isChunkLoading() {
+        return switch (QuarryConfig.get().getChunkLoadingPolicy()) {
+            case ALWAYS -> true;
+            case NEVER -> false;
+            case PER_QUARRY -> chunkLoading;
+        };
+    }
+
+    public void setChunkLoading(boolean enabled) {
+        this.chunkLoading = enabled;
+        markDirty();
+    }
+
+    public void toggleChunkLoading() {
+        setChunkLoading(!chunkLoading);
+    }
+
+    /**
+     * Update chunk loading state based on whether the quarry is actively mining.
+     * With chunk loading off the quarry only runs while its chunk is loaded anyway,
+     * and makes up for the time it was unloaded through {@link #scheduleCatchUp}.
      */
     private void updateChunkLoading(ServerWorld world, boolean shouldBeActive) {
-        boolean shouldForce = shouldBeActive; // always chunk load when active
-        if (shouldForce != wasChunkForced) {
-            ChunkPos chunkPos = new ChunkPos(pos);
-            world.setChunkForced(chunkPos.x, chunkPos.z, shouldForce);
-            wasChunkForced = shouldForce;
+        // Centered and chunk areas force the quarry's own chunk; large areas also the active chunk column
+        int key = !shouldBeActive || !isChunkLoading() ? -1 : areaMode == AREA_LARGE ? 1 + chunkIndex : 0;
+        if (key == forcedKey) {
+            return;
+        }
+        forcedKey = key;
+
+        LongSet wanted = wantedChunks;
+        wanted.clear();
+        if (key >= 0) {
+            wanted.add(ownChunk);
+            if (areaMode == AREA_LARGE) {
+                wanted.add(getAreaChunk(chunkIndex));
+                // Prefetch the next column so it is ready when this one is done
+                if (chunkIndex + 1 < getLargeAreaChunkCount()) {
+                    wanted.add(getAreaChunk(chunkIndex + 1));
+                }
+            }
+        }
+
+        // Forcing goes through the ledger so shared and externally forced chunks stay forced
+        ForcedChunkLedger ledger = ForcedChunkLedger.get(world);
+        LongIterator it = forcedChunks.iterator();
+        while (it.hasNext()) {
+            long chunk = it.nextLong();
+            if (!wanted.contains(chunk)) {
+                ledger.release(world, pos, chunk);
+                it.remove();
+            }
         }
+        for (long chunk : wanted) {
+            if (forcedChunks.add(chunk)) {
+                ledger.force(world, pos, chunk);
+            }
+        }
+        markDirty();
     }
 
     /**
-     * Called when the quarry is removed - ensure chunk is unforced
+     * Work out how many blocks the quarry would have mined while its chunk was unloaded.
+     * The result is bounded by the fuel on hand, what the pickaxe can survive and the free
+     * output space, so catching up never mines more than staying loaded would have.
      */
-    public void onRemoved(ServerWorld world) {
-        if (wasChunkForced) {
-            ChunkPos chunkPos = new ChunkPos(pos);
-            world.setChunkForced(chunkPos.x, chunkPos.z, false);
-            wasChunkForced = false;
+    private void scheduleCatchUp(ServerWorld world, ItemStack pickaxe, int blocksPerCycle) {
+        long now = world.getTime();
+        boolean forced = isChunkLoading();
+        if (!forced && lastActiveTime > 0 && now - lastActiveTime > 1) {
+            // Same rate as tick: blocksPerCycle blocks every ticksPerBlock ticks
+            long missed = (now - lastActiveTime - 1) / Math.max(1, ticksPerBlock) * blocksPerCycle;
+            long blocks = catchUpBlocks + missed;
+            blocks = Math.min(blocks, getAvailableFuelBlocks());
+            blocks = Math.min(blocks, getToolBlockBudget(pickaxe));
+            blocks = Math.min(blocks, getFreeOutputCapacity());
+            catchUpBlocks = (int) Math.max(0, blocks);
+        }
+
+        // The unload time is whatever was last saved, so keep the chunk save reasonably fresh
+        if (!forced && now % 20 == 0) {
+            world.getWorldChunk(pos).markNeedsSaving();
         }
+        lastActiveTime = now;
+    }
+
+    private long getAvailableFuelBlocks() {
+        ItemStack fuel = getStack(FUEL_SLOT);
+        return burnTime + (long) getFuelValue(fuel) * fuel.getCount();
+    }
+
+    /**
+     * Upper bound on the blocks a pickaxe can mine before breaking (every Unbreaking roll succeeding)
+     */
+    private long getToolBlockBudget(ItemStack pickaxe) {
+        if (!pickaxe.isDamageable()) {
+            return Long.MAX_VALUE;
+        }
+        int unbreaking = getEnchantmentLevel(net.minecraft.enchantment.Enchantments.UNBREAKING, pickaxe);
+        return (long) (pickaxe.getMaxDamage() - pickaxe.getDamage()) * (unbreaking + 1);
+    }
+
+    /**
+     * Room left for drops, counting the linked controller's storage
+     */
+    private int getFreeOutputCapacity() {
+        int capacity = SlotInsertion.freeCapacity(items, OUTPUT_START, getOutputEnd(), getMaxCountPerStack());
+        if (world instanceof ServerWorld serverWorld) {
+            QuarryControllerBlockEntity controller = getController(serverWorld);
+            if (controller != null) {
+                capacity += controller.getFreeCapacity();
+            }
+        }
+        return capacity;
+    }
+
+    // ==================== Controller ====================
+
+    /**
+     * The controller this quarry delivers to, or null to keep drops in its own outputs.
+     * The link is looked up again every few seconds so new, removed and unloaded
+     * controllers are noticed without every quarry searching every tick.
+     */
+    @Nullable
+    private QuarryControllerBlockEntity getController(ServerWorld world) {
+        QuarryControllerIndex index = QuarryControllerIndex.get(world);
+        if (controllerPos == null || world.getTime() >= nextControllerSearch) {
+            nextControllerSearch = world.getTime() + CONTROLLER_SEARCH_INTERVAL;
+            controllerPos = index.findNearest(pos, QuarryConfig.get().controllerRadius);
+        }
+        return controllerPos != null ? index.get(controllerPos) : null;
+    }
+
+    @Nullable
+    public BlockPos getControllerPos() {
+        return controllerPos;
+    }
+
+    /**
+     * Mark that the contents are leaving inside the dropped quarry item, so removing
+     * the block must not scatter them as well
+     */
+    public void markContentsDropped() {
+        contentsDropped = true;
+    }
+
+    public boolean hasDroppedContents() {
+        return contentsDropped;
     }
 
-    // Chunk loading is always enabled when the quarry is actively mining
+    /**
+     * Called when the quarry is removed - ensure chunk is unforced
+     */
+    public void onRemoved(ServerWorld world) {
+        releaseAreaClaim(world);
+        ForcedChunkLedger.get(world).releaseAll(world, pos);
+        forcedChunks.clear();
+        forcedKey = -1;
+        QuarryStatusBoard.remove(world, pos);
+    }
 
     // ==================== Filter System ====================
 
@@ -275,12 +762,47 @@ public class QuarryBlockEntity extends BlockEntity implements ExtendedScreenHand
     }
 
     public void setFilterMode(int mode) {
-        this.filterMode = MathHelper.clamp(mode, 0, 2);
+        mode = MathHelper.clamp(mode, 0, 3);
+        if ((mode == FILTER_ORES) != (filterMode == FILTER_ORES)) {
+            // Plans only list ores in ore mode, so they don't carry over either way
+            layerPlanner.invalidate();
+        }
+        this.filterMode = mode;
         markDirty();
     }
 
     public void cycleFilterMode() {
-        setFilterMode((filterMode + 1) % 3);
+        setFilterMode((filterMode + 1) % 4);
+    }
+
+    /**
+     * Whether the quarry only breaks ores and leaves everything else standing
+     */
+    public boolean isOreOnly() {
+        return filterMode == FILTER_ORES;
+    }
+
+    /**
+     * Whether any section this layer's scan area touches has an ore in its palette.
+     * Chunks that aren't loaded count as "maybe", the live check decides there.
+     */
+    private boolean layerMayHaveOres(ServerWorld world, int y) {
+        int minX = getScanMinX();
+        int minZ = getScanMinZ();
+        int size = getScanSize();
+        for (int cx = minX >> 4; cx <= (minX + size - 1) >> 4; cx++) {
+            for (int cz = minZ >> 4; cz <= (minZ + size - 1) >> 4; cz++) {
+                WorldChunk chunk = world.getChunkManager().getWorldChunk(cx, cz);
+                if (chunk == null) {
+                    return true;
+                }
+                ChunkSection section = chunk.getSection(chunk.getSectionIndex(y));
+                if (!section.isEmpty() && section.hasAny(state -> (BlockClassifier.get(state) & BlockClassifier.ORE) != 0)) {
+                    return true;
+                }
+            }
+        }
+        return false;
     }
 
     /**
@@ -290,15 +812,15 @@ public class QuarryBlockEntity extends BlockEntity implements ExtendedScreenHand
      * - Whitelist: only keep drops that match the filter
      * - Blacklist: void drops that match the filter
      */
-    private boolean shouldKeepDrop(ItemStack drop) {
-        if (filterMode == FILTER_DISABLED) {
+    private boolean shouldKeepDrop(Item drop) {
+        if (filterMode == FILTER_DISABLED || filterMode == FILTER_ORES) {
             return true;
         }
 
         boolean matchesFilter = false;
         for (int i = FILTER_START; i < FILTER_START + FILTER_SLOTS; i++) {
             ItemStack filterStack = items.get(i);
-            if (!filterStack.isEmpty() && filterStack.getItem() == drop.getItem()) {
+            if (!filterStack.isEmpty() && filterStack.getItem() == drop) {
                 matchesFilter = true;
                 break;
             }
@@ -311,175 +833,548 @@ public class QuarryBlockEntity extends BlockEntity implements ExtendedScreenHand
         }
     }
 
+    // ==================== Fluid Handling ====================
+
+    public int getFluidPolicy() {
+        return fluidPolicy;
+    }
+
+    public void setFluidPolicy(int policy) {
+        this.fluidPolicy = MathHelper.clamp(policy, 0, 2);
+        this.preparedDepth = 0;
+        markDirty();
+    }
+
+    public void cycleFluidPolicy() {
+        setFluidPolicy((fluidPolicy + 1) % 3);
+    }
+
+    /**
+     * Handle fluids for a whole layer before any block in it is broken.
+     * Everything here is done with {@link #SILENT_UPDATE_FLAGS} so that no neighbour
+     * updates (and therefore no fluid ticks) are scheduled - breaking blocks next to
+     * an aquifer one at a time is what starts the long flow cascades.
+     */
+    private void prepareLayer(ServerWorld world, int y) {
+        if (fluidPolicy == FLUID_SKIP) {
+            return;
+        }
+
+        int minX = getScanMinX();
+        int minZ = getScanMinZ();
+        int size = getScanSize();
+        BlockPos.Mutable cursor = new BlockPos.Mutable();
+
+        if (fluidPolicy == FLUID_SEAL) {
+            // Wall off the ring just outside the area so outer fluids can't pour in
+            for (int x = minX - 1; x <= minX + size; x++) {
+                for (int z = minZ - 1; z <= minZ + size; z++) {
+                    if (x != minX - 1 && x != minX + size && z != minZ - 1 && z != minZ + size) {
+                        continue;
+                    }
+                    if (!permissions.canMine(world, owner, x, z)) {
+                        continue;
+                    }
+                    cursor.set(x, y, z);
+                    sealFluid(world, cursor);
+                }
+            }
+        }
+
+        for (int z = minZ; z < minZ + size; z++) {
+            for (int x = minX; x < minX + size; x++) {
+                if (!permissions.canMine(world, owner, x, z)) {
+                    continue;
+                }
+                cursor.set(x, y, z);
+                drainFluid(world, cursor, world.getBlockState(cursor));
+            }
+        }
+    }
+
+    /**
+     * Remove the fluid at a position without notifying neighbours.
+     * Waterlogged blocks are dried out, fluid blocks (and plants that only exist in water) become air.
+     */
+    private void drainFluid(ServerWorld world, BlockPos target, BlockState state) {
+        if ((BlockClassifier.get(state) & BlockClassifier.HAS_FLUID) == 0) {
+            return;
+        }
+        if (state.contains(Properties.WATERLOGGED)) {
+            world.setBlockState(target, state.with(Properties.WATERLOGGED, false), SILENT_UPDATE_FLAGS);
+        } else if (state.getBlock() instanceof FluidBlock || !state.hasBlockEntity()) {
+            world.setBlockState(target, Blocks.AIR.getDefaultState(), SILENT_UPDATE_FLAGS);
+        }
+    }
+
+    /**
+     * Replace a fluid on the area perimeter with a solid block taken from the output slots.
+     * If no suitable block has been mined yet the fluid is just drained, which still keeps
+     * it from flowing until something else updates it.
+     */
+    private void sealFluid(ServerWorld world, BlockPos target) {
+        BlockState state = world.getBlockState(target);
+        if ((BlockClassifier.get(state) & BlockClassifier.HAS_FLUID) == 0) {
+            return;
+        }
+        if (state.contains(Properties.WATERLOGGED) || state.hasBlockEntity()) {
+            drainFluid(world, target, state);
+            return;
+        }
+
+        BlockState seal = takeSealBlock();
+        if (seal != null) {
+            world.setBlockState(target, seal, SILENT_UPDATE_FLAGS);
+        } else {
+            drainFluid(world, target, state);
+        }
+    }
+
+    /**
+     * Take one full, non-falling block out of the output slots to use as a perimeter seal
+     */
+    @Nullable
+    private BlockState takeSealBlock() {
+        for (int i = OUTPUT_START; i < getOutputEnd(); i++) {
+            ItemStack stack = items.get(i);
+            if (stack.isEmpty() || !(stack.getItem() instanceof BlockItem blockItem)) {
+                continue;
+            }
+            Block block = blockItem.getBlock();
+            BlockState state = block.getDefaultState();
+            if (block instanceof FallingBlock || state.hasBlockEntity() || !state.isOpaqueFullCube()) {
+                continue;
+            }
+            stack.decrement(1);
+            markDirty();
+            return state;
+        }
+        return null;
+    }
+
     // ==================== Mining Logic ====================
 
     private void resetProgress() {
         miningProgress = 0;
     }
 
-    private boolean tryConsumeFuel() {
+    /**
+     * Move as much fuel as fits from the fuel slot into the internal buffer.
+     * Leftovers such as empty buckets go to the output slots so they never block the fuel slot.
+     *
+     * @return true if any fuel was absorbed
+     */
+    private boolean absorbFuel() {
         ItemStack fuel = getStack(FUEL_SLOT);
-        int gainedBlocks = getFuelValue(fuel);
+        int value = getFuelValue(fuel);
+        if (value <= 0) {
+            return false;
+        }
 
-        if (gainedBlocks <= 0) {
-            lastFuelTime = 0;
+        int count = Math.min(fuel.getCount(), (QuarryConfig.get().fuelBufferCap - burnTime) / value);
+        if (count <= 0 && burnTime == 0) {
+            // A fuel worth more than the whole buffer still burns, one item at a time once the buffer is empty
+            count = 1;
+        }
+        if (count <= 0) {
             return false;
         }
 
         Item fuelItem = fuel.getItem();
-        fuel.decrement(1);
-
-        if (fuel.isEmpty()) {
-            ItemStack remainder = fuelItem.getRecipeRemainder(fuel);
-            if (!remainder.isEmpty()) {
-                setStack(FUEL_SLOT, remainder.copy());
+        ItemStack remainder = fuelItem.getRecipeRemainder(fuel);
+        fuel.decrement(count);
+
+        if (!remainder.isEmpty()) {
+            ItemStack leftover = insertIntoOutputs(remainder.copyWithCount(count));
+            if (!leftover.isEmpty()) {
+                if (fuel.isEmpty()) {
+                    setStack(FUEL_SLOT, leftover);
+                } else if (world != null) {
+                    Block.dropStack(world, pos.up(), leftover);
+                }
             }
         }
 
-        burnTime += gainedBlocks;
-        lastFuelTime = gainedBlocks;
+        burnTime += count * value;
+        lastFuelTime = burnTime;
         markDirty();
         return true;
     }
 
     public int getFuelValue(ItemStack fuel) {
-        if (fuel.isEmpty()) {
-            return 0;
-        }
-        Integer value = FUEL_VALUES.get(fuel.getItem());
-        return value != null ? value : 0;
+        return QuarryFuels.forSide(world != null && world.isClient()).getValue(fuel);
     }
 
     /**
-     * Break a block and collect its drops
+     * Break a block and collect its drops, plus the contents if it is a container
      */
     private boolean breakBlock(ServerWorld world, BlockPos target, ItemStack pickaxe) {
         BlockState targetState = world.getBlockState(target);
-        
-        if (targetState.isAir() || targetState.getHardness(world, target) < 0) {
+        int flags = BlockClassifier.get(targetState);
+
+        if ((flags & BlockClassifier.SKIP) != 0) {
             return false;
         }
 
+        BlockEntity blockEntity = (flags & BlockClassifier.CONTAINER) != 0 ? world.getBlockEntity(target) : null;
+
         // Get the drops using the pickaxe (Fortune and Silk Touch are handled automatically
         // by getDroppedStacks since the pickaxe's enchantments affect the loot context)
-        List<ItemStack> drops = Block.getDroppedStacks(targetState, world, target, world.getBlockEntity(target), null, pickaxe);
-        
+        List<ItemStack> drops = Block.getDroppedStacks(targetState, world, target, blockEntity, null, pickaxe);
+
+        // Empty containers into the batch first, so breaking them has nothing left to spill
+        if (blockEntity instanceof Inventory inventory) {
+            drainContainer(blockEntity, inventory);
+        }
+
         boolean removed = world.breakBlock(target, false);
 
         if (!removed) {
             return false;
         }
+        if ((flags & BlockClassifier.WATERLOGGED) != 0 && fluidPolicy != FLUID_SKIP) {
+            // Waterlogged since the layer was prepared - don't leave a source block in a drained layer
+            drainFluid(world, target, world.getBlockState(target));
+        }
 
-        // Insert drops into output inventory, filtering per-item based on filter settings
+        // Loot tables hand out fresh stacks, so they can go into the batch as they are
         for (ItemStack drop : drops) {
-            if (!shouldKeepDrop(drop)) {
-                continue; // Void this drop
-            }
-            ItemStack remainder = insertIntoOutputs(drop.copy());
-            if (!remainder.isEmpty()) {
-                Block.dropStack(world, pos.up(), remainder);
-            }
+            pendingDrops.add(drop);
         }
 
-        damagePickaxe(pickaxe);
         return true;
     }
 
-    private void damagePickaxe(ItemStack pickaxe) {
-        if (world instanceof ServerWorld serverWorld && pickaxe.isDamageable()) {
-            int unbreaking = getEnchantmentLevel(net.minecraft.enchantment.Enchantments.UNBREAKING, pickaxe);
-            boolean damage = true;
-            if (unbreaking > 0) {
-                if (serverWorld.getRandom().nextInt(unbreaking + 1) != 0) {
-                    damage = false;
-                }
+    /**
+     * Move a container's contents into the batch, where filters and the overflow policy apply as for any drop.
+     * Reading the slots rolls the loot of unopened chests (mineshafts, dungeons) like opening them would.
+     * Shulker boxes are left alone: their drop already carries the contents.
+     */
+    private void drainContainer(BlockEntity blockEntity, Inventory inventory) {
+        if (blockEntity instanceof ShulkerBoxBlockEntity) {
+            return;
+        }
+        for (int slot = 0; slot < inventory.size(); slot++) {
+            ItemStack stack = inventory.removeStack(slot);
+            if (!stack.isEmpty()) {
+                pendingDrops.add(stack);
+            }
+        }
+    }
+
+    /**
+     * Filter and insert everything collected during a batch
+     */
+    private void flushDrops(ServerWorld world) {
+        if (pendingDrops.isEmpty()) {
+            return;
+        }
+
+        // A linked controller gets the batch first, the quarry's own outputs take what doesn't fit
+        QuarryControllerBlockEntity controller = getController(world);
+
+        for (Reference2IntMap.Entry<Item> entry : pendingDrops.plainEntries()) {
+            Item item = entry.getKey();
+            if (!shouldKeepDrop(item)) {
+                continue; // Void this drop
+            }
+            int left = entry.getIntValue();
+            if (controller != null) {
+                left = controller.insert(item, left);
             }
-            if (damage) {
-                int currentDamage = pickaxe.getDamage();
-                int maxDamage = pickaxe.getMaxDamage();
-                if (currentDamage + 1 >= maxDamage) {
-                    setStack(PICKAXE_SLOT, ItemStack.EMPTY);
-                } else {
-                    pickaxe.setDamage(currentDamage + 1);
-                    setStack(PICKAXE_SLOT, pickaxe);
+            left = insertIntoOutputs(item, left);
+            while (left > 0) {
+                int count = Math.min(left, item.getMaxCount());
+                handleOverflow(world, new ItemStack(item, count));
+                left -= count;
+            }
+        }
+
+        for (ItemStack drop : pendingDrops.stacksWithComponents()) {
+            if (!shouldKeepDrop(drop.getItem())) {
+                continue;
+            }
+            while (!drop.isEmpty()) {
+                ItemStack part = drop.split(drop.getMaxCount());
+                if (controller != null) {
+                    part = controller.insert(part);
+                }
+                ItemStack remainder = insertIntoOutputs(part);
+                if (!remainder.isEmpty()) {
+                    handleOverflow(world, remainder);
                 }
             }
         }
+
+        pendingDrops.clear();
+    }
+
+    /**
+     * Deal with items that didn't fit into the output slots, according to the server's overflow policy.
+     * With PAUSE the last block's leftovers are still dropped; mining stops before the next one.
+     */
+    private void handleOverflow(ServerWorld world, ItemStack remainder) {
+        if (QuarryConfig.get().getOverflowPolicy() != QuarryConfig.OverflowPolicy.VOID) {
+            Block.dropStack(world, pos.up(), remainder);
+        }
     }
 
     /**
-     * Find the next block to mine, respecting filters
+     * Apply the durability cost of a batch of mined blocks in one go.
+     * The number of damaged blocks is drawn from Binomial(blocks, 1 / (Unbreaking + 1)),
+     * the same distribution as rolling Unbreaking for every block separately.
      */
-    @Nullable
-    private BlockPos findNextTarget(ServerWorld world) {
+    private void damagePickaxe(ItemStack pickaxe, int blocks) {
+        if (blocks <= 0 || !pickaxe.isDamageable()) {
+            return;
+        }
+
+        int unbreaking = getEnchantmentLevel(net.minecraft.enchantment.Enchantments.UNBREAKING, pickaxe);
+        int damage = PickaxeWear.binomial(random, blocks, PickaxeWear.damageChance(unbreaking));
+        if (damage <= 0) {
+            return;
+        }
+
+        int currentDamage = pickaxe.getDamage();
+        int maxDamage = pickaxe.getMaxDamage();
+        if (currentDamage + damage >= maxDamage) {
+            setStack(PICKAXE_SLOT, ItemStack.EMPTY);
+        } else {
+            pickaxe.setDamage(currentDamage + damage);
+            setStack(PICKAXE_SLOT, pickaxe);
+        }
+    }
+
+    /**
+     * Reseed this quarry's random source, so durability rolls can be reproduced
+     */
+    public void setRandomSeed(long seed) {
+        random.setSeed(seed);
+    }
+
+    /**
+     * Find the next block to mine, respecting filters.
+     * Returns null when the area is finished, the scan budget ran out, or the next
+     * position is in a chunk that is still loading - the cursor then stays where it is.
+     *
+     * @return the target packed with {@link BlockPos#asLong}, or {@link #NO_TARGET}
+     */
+    private long findNextTarget(ServerWorld world) {
         int attempts = 0;
-        int maxAttempts = Math.max(512, getTotalAreaSlots() * 2);
+        int maxAttempts = Math.max(QuarryConfig.get().scanBudget, getTotalAreaSlots() * 2);
+        QuarryAreaClaims claims = QuarryAreaClaims.get(world);
+        QuarryIndex quarries = QuarryIndex.get(world);
+        int requiredFlags = isOreOnly() ? BlockClassifier.ORE : 0;
+
+        // Columns taken over from a quarry that stopped come first, since the cursor has passed them
+        collectHandedOver(claims);
+        if (!handedOver.isEmpty()) {
+            long target = findHandedOverTarget(world, claims, quarries, requiredFlags);
+            if (target != NO_TARGET) {
+                return target;
+            }
+        }
+
+        while (attempts < maxAttempts) {
+            if (pos.getY() - currentDepth < world.getBottomY()) {
+                // Large areas carry on with the next chunk column, everything else is done
+                if (!nextChunk()) {
+                    return NO_TARGET;
+                }
+                attempts++;
+                continue;
+            }
+
+            if (preparedDepth != currentDepth) {
+                int layerY = pos.getY() - currentDepth;
+
+                // Every chunk of the layer (plus the sealing ring) has to be loaded before it is touched.
+                // Missing ones are loaded in the background and the layer waits for a later tick.
+                int margin = fluidPolicy == FLUID_SEAL ? 1 : 0;
+                boolean ready = chunkPrefetcher.prefetch(world, getScanMinX() - margin, getScanMinZ() - margin,
+                        getScanSize() + 2 * margin, getScanSize() + 2 * margin);
+                if (areaMode == AREA_LARGE && chunkIndex + 1 < getLargeAreaChunkCount()) {
+                    long next = getAreaChunk(chunkIndex + 1);
+                    chunkPrefetcher.isReady(world, ChunkPos.getPackedX(next), ChunkPos.getPackedZ(next));
+                }
+                if (!ready) {
+                    return NO_TARGET;
+                }
+                permissions.setBounds(getScanMinX() - 1, getScanMinZ() - 1, getScanSize() + 2);
+
+                // Ore mode: a palette without ores rules out the rest of the section in one check
+                if (requiredFlags != 0 && !layerMayHaveOres(world, layerY)) {
+                    for (int y = layerY; y >= (layerY & ~15); y--) {
+                        completeLayer();
+                    }
+                    attempts++;
+                    continue;
+                }
+
+                prepareLayer(world, layerY);
+                preparedDepth = currentDepth;
+
+                // Plan the next layer in the background while this one is being mined
+                layerPlanner.request(world, getScanMinX(), getScanMinZ(), layerY - 1,
+                        currentDepth + 1, getScanSize(), requiredFlags);
+            }
+
+            // Jump straight to the next planned candidate instead of reading every position
+            LayerPlanner.Plan plan = layerPlanner.getPlan(currentDepth, getScanSize());
+            if (plan != null) {
+                int next = plan.nextCandidate(areaIndex);
+                if (next < 0) {
+                    completeLayer();
+                    attempts++;
+                    continue;
+                }
+                areaIndex = next;
+            }
+
+            BlockPos.Mutable target = scanCursor.set(getColumnX(areaIndex), pos.getY() - currentDepth, getColumnZ(areaIndex));
+
+            // The chunk may have unloaded since the layer started - wait for it rather than load it here
+            if (!chunkPrefetcher.isReady(world, target.getX() >> 4, target.getZ() >> 4)) {
+                return NO_TARGET;
+            }
 
-        while (pos.getY() - currentDepth >= world.getBottomY() && attempts < maxAttempts) {
-            BlockPos offset = getOffsetForIndex(areaIndex);
-            BlockPos target = pos.add(offset.getX(), -currentDepth, offset.getZ());
             advancePointer();
             attempts++;
 
-            BlockState state = world.getBlockState(target);
-            
-            if (state.isAir()) {
+            // Columns shared with an overlapping quarry are mined by whichever one owns them
+            if (claims.isForeign(pos, target.getX(), target.getZ())) {
+                continue;
+            }
+
+            // Claimed or protected land the owner may not change is left alone
+            if (!permissions.canMine(world, owner, target.getX(), target.getZ())) {
                 continue;
             }
 
-            if (state.getHardness(world, target) < 0) {
+            // Never mine another quarry - loaded ones are known without reading the block
+            if (quarries.contains(target)) {
                 continue;
             }
 
-            if (state.getBlock() == SimpleQuarries.QUARRY_BLOCK) {
+            // One table read covers air, fluids (handled per layer in prepareLayer), unbreakable
+            // and immune blocks - including quarries in chunks too freshly loaded to be indexed
+            int flags = BlockClassifier.get(world.getBlockState(target));
+            if ((flags & BlockClassifier.SKIP) != 0 || (flags & requiredFlags) != requiredFlags) {
                 continue;
             }
 
-            return target;
+            return target.asLong();
         }
 
-        return null;
+        return NO_TARGET;
+    }
+
+    /**
+     * Go back over columns another quarry owned while this one's cursor passed them, from the
+     * layer that quarry had reached down to this quarry's cursor. Works through one column
+     * at a time from the end of the list, rewriting the entry's Y as it goes down.
+     */
+    private long findHandedOverTarget(ServerWorld world, QuarryAreaClaims claims, QuarryIndex quarries, int requiredFlags) {
+        int attempts = 0;
+        int maxAttempts = QuarryConfig.get().scanBudget;
+        while (!handedOver.isEmpty() && attempts < maxAttempts) {
+            attempts++;
+            int last = handedOver.size() - 1;
+            BlockPos.Mutable target = scanCursor.set(handedOver.getLong(last));
+            int x = target.getX();
+            int z = target.getZ();
+            long column = BlockPos.asLong(x, 0, z);
+
+            if (column != vettedColumn) {
+                if (claims.isForeign(pos, x, z) || !permissions.canMine(world, owner, x, z)) {
+                    handedOver.removeLong(last);
+                    continue;
+                }
+                target.setY(Math.min(target.getY(), pos.getY() - 1));
+                vettedColumn = column;
+            }
+            if (target.getY() < getHandedOverFloor(world, x, z)) {
+                handedOver.removeLong(last);
+                vettedColumn = NO_TARGET;
+                continue;
+            }
+            if (!chunkPrefetcher.isReady(world, x >> 4, z >> 4)) {
+                return NO_TARGET;
+            }
+            handedOver.set(last, BlockPos.asLong(x, target.getY() - 1, z));
+
+            if (quarries.contains(target)) {
+                continue;
+            }
+            int flags = BlockClassifier.get(world.getBlockState(target));
+            if ((flags & BlockClassifier.SKIP) != 0 || (flags & requiredFlags) != requiredFlags) {
+                continue;
+            }
+            return target.asLong();
+        }
+        return NO_TARGET;
+    }
+
+    /**
+     * Lowest Y a handed-over column still needs to be mined to; above the world for columns
+     * outside the area or in large-area chunks the cursor hasn't reached yet
+     */
+    private int getHandedOverFloor(ServerWorld world, int x, int z) {
+        int minX = getAreaMinX();
+        int minZ = getAreaMinZ();
+        int size = getMiningAreaSize();
+        if (x < minX || z < minZ || x >= minX + size || z >= minZ + size) {
+            return Integer.MAX_VALUE;
+        }
+        if (areaMode == AREA_LARGE) {
+            int index = ((z >> 4) - (minZ >> 4)) * getLargeAreaChunks() + ((x >> 4) - (minX >> 4));
+            if (index > chunkIndex) {
+                return Integer.MAX_VALUE;
+            }
+            if (index < chunkIndex) {
+                return world.getBottomY();
+            }
+        }
+        // The cursor's own layer too, it may have skipped the column there already
+        return getCurrentLayerY();
     }
 
     private void advancePointer() {
         areaIndex++;
         if (areaIndex >= getTotalAreaSlots()) {
-            areaIndex = 0;
-            currentDepth++;
+            completeLayer();
         }
     }
 
-    private ItemStack insertIntoOutputs(ItemStack stack) {
-        if (stack.isEmpty()) {
-            return ItemStack.EMPTY;
-        }
-
-        for (int i = OUTPUT_START; i < OUTPUT_START + OUTPUT_SLOTS; i++) {
-            ItemStack existing = items.get(i);
-            if (!existing.isEmpty() && ItemStack.areItemsAndComponentsEqual(existing, stack)) {
-                int transferable = Math.min(stack.getCount(), 
-                        Math.min(getMaxCountPerStack(), existing.getMaxCount()) - existing.getCount());
-                if (transferable > 0) {
-                    existing.increment(transferable);
-                    stack.decrement(transferable);
-                    if (stack.isEmpty()) {
-                        markDirty();
-                        return ItemStack.EMPTY;
-                    }
-                }
-            }
-        }
+    /**
+     * Move the cursor to the start of the next layer down, remembering the finished one for LAYER_COMPLETE
+     */
+    private void completeLayer() {
+        completedLayers.add(pos.getY() - currentDepth);
+        areaIndex = 0;
+        currentDepth++;
+    }
 
-        for (int i = OUTPUT_START; i < OUTPUT_START + OUTPUT_SLOTS; i++) {
-            ItemStack existing = items.get(i);
-            if (existing.isEmpty()) {
-                items.set(i, stack.copy());
-                markDirty();
-                return ItemStack.EMPTY;
-            }
+    /**
+     * Insert {@code count} plain (component-less) items, topping up existing stacks first
+     *
+     * @return how many didn't fit
+     */
+    private int insertIntoOutputs(Item item, int count) {
+        int left = SlotInsertion.insert(items, OUTPUT_START, getOutputEnd(), getMaxCountPerStack(), item, count);
+        if (left != count) {
+            markDirty();
         }
+        return left;
+    }
 
-        return stack;
+    private ItemStack insertIntoOutputs(ItemStack stack) {
+        int count = stack.getCount();
+        ItemStack remainder = SlotInsertion.insert(items, OUTPUT_START, getOutputEnd(), getMaxCountPerStack(), stack);
+        if (remainder.getCount() != count) {
+            markDirty();
+        }
+        return remainder;
     }
 
     public boolean isValidPickaxe(ItemStack stack) {
@@ -493,9 +1388,43 @@ public class QuarryBlockEntity extends BlockEntity implements ExtendedScreenHand
     public void setUpgradeCount(int count) {
         upgradeCount = QuarryUpgrades.clampUpgradeCount(count);
         clampAreaIndex();
+        layerPlanner.invalidate();
+        // Claimed again with the new size on the next mining tick
+        if (world instanceof ServerWorld serverWorld) {
+            releaseAreaClaim(serverWorld);
+        }
         markDirty();
     }
 
+    /**
+     * Register this quarry's current area with the world's claim registry
+     */
+    private void updateAreaClaim(ServerWorld world) {
+        QuarryAreaClaims.get(world).claim(pos, getAreaMinX(), getAreaMinZ(), getMiningAreaSize());
+        areaClaimed = true;
+    }
+
+    /**
+     * Give the area's shared columns to the neighbours while this quarry isn't mining
+     */
+    public void releaseAreaClaim(ServerWorld world) {
+        if (!areaClaimed) {
+            return;
+        }
+        QuarryAreaClaims claims = QuarryAreaClaims.get(world);
+        collectHandedOver(claims);
+        claims.release(pos, getCurrentLayerY());
+        areaClaimed = false;
+    }
+
+    private void collectHandedOver(QuarryAreaClaims claims) {
+        LongList columns = claims.takeHandedOver(pos);
+        if (columns != null) {
+            handedOver.addAll(columns);
+            markDirty();
+        }
+    }
+
     public int getSpeedUpgradeCount() {
         return speedUpgradeCount;
     }
@@ -508,6 +1437,7 @@ public class QuarryBlockEntity extends BlockEntity implements ExtendedScreenHand
     private void clampAreaIndex() {
         int maxIndex = Math.max(0, getTotalAreaSlots() - 1);
         areaIndex = MathHelper.clamp(areaIndex, 0, maxIndex);
+        chunkIndex = MathHelper.clamp(chunkIndex, 0, getLargeAreaChunkCount() - 1);
     }
 
     private int getEnchantmentLevel(RegistryKey<Enchantment> enchantmentKey, ItemStack stack) {
@@ -521,23 +1451,20 @@ public class QuarryBlockEntity extends BlockEntity implements ExtendedScreenHand
     }
 
     /**
-     * Get the mining speed (ticks per block) for a pickaxe, with speed upgrades applied
+     * Get the mining speed (ticks per block) for a pickaxe, with speed upgrades applied.
+     * The result isn't rounded, so upgraded quarries can go below one tick per block.
+     *
+     * @return ticks per block, or -1 if the pickaxe has no configured speed
      */
-    private int getTicksPerBlockFor(ItemStack pickaxe) {
+    private double getRawTicksPerBlock(ItemStack pickaxe) {
         if (!isValidPickaxe(pickaxe)) {
-            return 0;
+            return -1;
         }
 
-        Item item = pickaxe.getItem();
-        int baseTicks = 0;
-        if (item == Items.WOODEN_PICKAXE) baseTicks = 200;
-        else if (item == Items.STONE_PICKAXE) baseTicks = 160;
-        else if (item == Items.COPPER_PICKAXE) baseTicks = 140;
-        else if (item == Items.IRON_PICKAXE) baseTicks = 120;
-        else if (item == Items.GOLDEN_PICKAXE) baseTicks = 20;
-        else if (item == Items.DIAMOND_PICKAXE) baseTicks = 80;
-        else if (item == Items.NETHERITE_PICKAXE) baseTicks = 40;
-        else return 0;
+        int baseTicks = QuarryConfig.get().getBaseTicks(pickaxe.getItem());
+        if (baseTicks <= 0) {
+            return -1;
+        }
 
         // Apply Efficiency enchantment
         int efficiency = getEnchantmentLevel(net.minecraft.enchantment.Enchantments.EFFICIENCY, pickaxe);
@@ -546,16 +1473,64 @@ public class QuarryBlockEntity extends BlockEntity implements ExtendedScreenHand
             baseTicks = (int) Math.round(baseTicks / speedMultiplier);
         }
 
-        // Apply speed upgrades (each reduces time by 20% multiplicatively)
-        baseTicks = (int) Math.round(baseTicks * QuarryUpgrades.speedMultiplierForCount(speedUpgradeCount));
-
-        return Math.max(1, baseTicks);
+        // Apply speed upgrades (by default each takes off another 20% of the base time)
+        return baseTicks * QuarryUpgrades.speedMultiplierForCount(speedUpgradeCount);
     }
 
     public PropertyDelegate getPropertyDelegate() {
         return propertyDelegate;
     }
 
+    // ==================== Item Components ====================
+
+    /**
+     * Components for the dropped quarry item. Upgrades are always kept; the scan position,
+     * fuel buffer and inventory only when the server keeps quarry contents on break.
+     */
+    @Override
+    protected void addComponents(ComponentMap.Builder builder) {
+        super.addComponents(builder);
+        builder.add(QuarryComponents.QUARRY_UPGRADES, new QuarryUpgradesComponent(upgradeCount, speedUpgradeCount));
+        if (QuarryConfig.get().keepContentsOnBreak) {
+            builder.add(QuarryComponents.QUARRY_STATE, new QuarryStateComponent(pos, getCurrentLayerY(), areaIndex, burnTime, areaMode, chunkIndex));
+            builder.add(DataComponentTypes.CONTAINER, ContainerComponent.fromStacks(items));
+        }
+    }
+
+    @Override
+    protected void readComponents(ComponentsAccess components) {
+        super.readComponents(components);
+        QuarryUpgradesComponent upgrades = components.getOrDefault(QuarryComponents.QUARRY_UPGRADES, QuarryUpgradesComponent.DEFAULT);
+        upgradeCount = upgrades.area();
+        speedUpgradeCount = upgrades.speed();
+        components.getOrDefault(DataComponentTypes.CONTAINER, ContainerComponent.DEFAULT).copyTo(items);
+
+        QuarryStateComponent state = components.get(QuarryComponents.QUARRY_STATE);
+        if (state != null) {
+            burnTime = Math.max(0, state.burnTime());
+            lastFuelTime = burnTime;
+            // Layers above the saved one were already emptied - only valid if the quarry sits over the same column
+            areaMode = MathHelper.clamp(state.areaMode(), 0, 2);
+            if (state.sameColumn(pos) && pos.getY() - state.layerY() >= 1) {
+                chunkIndex = Math.max(0, state.chunkIndex());
+                currentDepth = pos.getY() - state.layerY();
+                areaIndex = state.areaIndex();
+                clampAreaIndex();
+            }
+        }
+    }
+
+    @Override
+    public void removeFromCopiedStackData(WriteView view) {
+        super.removeFromCopiedStackData(view);
+        view.remove("Items");
+        view.remove("UpgradeCount");
+        view.remove("SpeedUpgradeCount");
+        view.remove("BurnTime");
+        view.remove("Depth");
+        view.remove("AreaIndex");
+    }
+
     // ==================== NBT Serialization ====================
 
     @Override
@@ -579,7 +1554,16 @@ public class QuarryBlockEntity extends BlockEntity implements ExtendedScreenHand
         data.putInt("UpgradeCount", upgradeCount);
         data.putInt("SpeedUpgradeCount", speedUpgradeCount);
         data.putInt("FilterMode", filterMode);
-        // chunkLoaderEnabled removed — always on
+        data.putInt("FluidPolicy", fluidPolicy);
+        data.putInt("AreaMode", areaMode);
+        data.putInt("ChunkIndex", chunkIndex);
+        data.put("ForcedChunks", PACKED_LONGS_CODEC, new ArrayList<>(forcedChunks));
+        data.put("HandedOver", PACKED_LONGS_CODEC, new ArrayList<>(handedOver));
+        data.putBoolean("ChunkLoading", chunkLoading);
+        data.putLong("LastActiveTime", lastActiveTime);
+        data.putInt("CatchUpBlocks", catchUpBlocks);
+        data.putLong("BlocksMined", blocksMined);
+        data.putNullable("Owner", Uuids.INT_STREAM_CODEC, owner);
     }
 
     @Override
@@ -603,8 +1587,22 @@ public class QuarryBlockEntity extends BlockEntity implements ExtendedScreenHand
         currentDepth = Math.max(1, data.getInt("Depth", 1));
         upgradeCount = QuarryUpgrades.clampUpgradeCount(data.getInt("UpgradeCount", 0));
         speedUpgradeCount = QuarryUpgrades.clampSpeedCount(data.getInt("SpeedUpgradeCount", 0));
-        filterMode = MathHelper.clamp(data.getInt("FilterMode", 0), 0, 2);
-        // chunkLoaderEnabled removed — always on
+        filterMode = MathHelper.clamp(data.getInt("FilterMode", 0), 0, 3);
+        fluidPolicy = MathHelper.clamp(data.getInt("FluidPolicy", FLUID_SKIP), 0, 2);
+        areaMode = MathHelper.clamp(data.getInt("AreaMode", AREA_CENTERED), 0, 2);
+        chunkIndex = Math.max(0, data.getInt("ChunkIndex", 0));
+        forcedChunks.clear();
+        data.read("ForcedChunks", PACKED_LONGS_CODEC).ifPresent(forcedChunks::addAll);
+        // Not -1: a quarry that loads and doesn't resume mining still has to unforce what it saved
+        forcedKey = FORCED_KEY_UNKNOWN;
+        handedOver.clear();
+        data.read("HandedOver", PACKED_LONGS_CODEC).ifPresent(handedOver::addAll);
+        vettedColumn = NO_TARGET;
+        chunkLoading = data.getBoolean("ChunkLoading", true);
+        lastActiveTime = data.getLong("LastActiveTime", 0L);
+        catchUpBlocks = Math.max(0, data.getInt("CatchUpBlocks", 0));
+        blocksMined = Math.max(0L, data.getLong("BlocksMined", 0L));
+        owner = data.read("Owner", Uuids.INT_STREAM_CODEC).orElse(null);
         clampAreaIndex();
     }
 
@@ -690,21 +1688,97 @@ public class QuarryBlockEntity extends BlockEntity implements ExtendedScreenHand
 
     // ==================== Helper Methods ====================
 
-    private int getMiningAreaSize() {
-        return QuarryUpgrades.areaForCount(upgradeCount);
+    /**
+     * Width of the whole area, in blocks
+     */
+    public int getMiningAreaSize() {
+        return switch (areaMode) {
+            case AREA_CHUNK -> 16;
+            case AREA_LARGE -> getLargeAreaChunks() * 16;
+            default -> QuarryUpgrades.areaForCount(upgradeCount);
+        };
+    }
+
+    public int getAreaMinX() {
+        return switch (areaMode) {
+            case AREA_CHUNK -> pos.getX() & ~15;
+            case AREA_LARGE -> ((pos.getX() >> 4) - getLargeAreaChunks() / 2) << 4;
+            default -> pos.getX() - getMiningAreaSize() / 2;
+        };
+    }
+
+    public int getAreaMinZ() {
+        return switch (areaMode) {
+            case AREA_CHUNK -> pos.getZ() & ~15;
+            case AREA_LARGE -> ((pos.getZ() >> 4) - getLargeAreaChunks() / 2) << 4;
+            default -> pos.getZ() - getMiningAreaSize() / 2;
+        };
+    }
+
+    private int getLargeAreaChunks() {
+        return QuarryConfig.get().largeAreaChunks;
+    }
+
+    private int getLargeAreaChunkCount() {
+        int chunks = getLargeAreaChunks();
+        return chunks * chunks;
+    }
+
+    /**
+     * Packed position of the index-th chunk column of a large area
+     */
+    private long getAreaChunk(int index) {
+        int chunks = getLargeAreaChunks();
+        return ChunkPos.toLong((getAreaMinX() >> 4) + index % chunks, (getAreaMinZ() >> 4) + index / chunks);
+    }
+
+    // The part of the area scanned layer by layer: the active chunk column for large areas, else the whole area
+
+    private int getScanMinX() {
+        return areaMode == AREA_LARGE ? ChunkPos.getPackedX(getAreaChunk(chunkIndex)) << 4 : getAreaMinX();
+    }
+
+    private int getScanMinZ() {
+        return areaMode == AREA_LARGE ? ChunkPos.getPackedZ(getAreaChunk(chunkIndex)) << 4 : getAreaMinZ();
+    }
+
+    private int getScanSize() {
+        return areaMode == AREA_LARGE ? 16 : getMiningAreaSize();
+    }
+
+    /**
+     * Y level of the layer currently being mined
+     */
+    public int getCurrentLayerY() {
+        return pos.getY() - currentDepth;
+    }
+
+    /**
+     * Position the scan will look at next (may turn out to be air or skipped)
+     */
+    public BlockPos getCursorPos() {
+        return new BlockPos(getColumnX(areaIndex), pos.getY() - currentDepth, getColumnZ(areaIndex));
     }
 
     private int getTotalAreaSlots() {
-        int size = getMiningAreaSize();
+        int size = getScanSize();
         return size * size;
     }
 
-    private BlockPos getOffsetForIndex(int index) {
-        int size = getMiningAreaSize();
-        int radius = size / 2;
-        int xIndex = index % size;
-        int zIndex = index / size;
-        return new BlockPos(xIndex - radius, 0, zIndex - radius);
+    // Area indices run x-fastest, then z - the same order blocks are laid out in a chunk section
+    private int getColumnX(int index) {
+        return getScanMinX() + QuarryUpgrades.columnOffsets(getScanSize()).x()[index];
+    }
+
+    private int getColumnZ(int index) {
+        return getScanMinZ() + QuarryUpgrades.columnOffsets(getScanSize()).z()[index];
+    }
+
+    /**
+     * End (exclusive) of the output slots in use, which the server config may limit
+     */
+    private int getOutputEnd() {
+        return OUTPUT_START + QuarryConfig.get().outputSlots;
     }
 
     private static int[] createBottomSlots() {
@@ -0,0 +1,155 @@
+package com.simplequarries.block.entity;
+
+import com.simplequarries.SimpleQuarries;
+import com.simplequarries.mining.SlotInsertion;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.entity.player.PlayerInventory;
+import net.minecraft.inventory.Inventories;
+import net.minecraft.inventory.Inventory;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.screen.GenericContainerScreenHandler;
+import net.minecraft.screen.NamedScreenHandlerFactory;
+import net.minecraft.screen.ScreenHandler;
+import net.minecraft.storage.ReadView;
+import net.minecraft.storage.WriteView;
+import net.minecraft.text.Text;
+import net.minecraft.util.collection.DefaultedList;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Vec3d;
+
+/**
+ * Quarry Controller Block Entity - shared storage for the quarries around it
+ *
+ * Quarries within {@code controllerRadius} blocks hand their drops to the nearest
+ * controller once per mining batch, and keep what doesn't fit in their own outputs.
+ * The 54 slots are a plain inventory, so hoppers and pipes can empty it from any side.
+ */
+public class QuarryControllerBlockEntity extends BlockEntity implements NamedScreenHandlerFactory, Inventory {
+    public static final int INVENTORY_SIZE = 54;  // 6 rows x 9 cols, same as a double chest
+
+    private final DefaultedList<ItemStack> items = DefaultedList.ofSize(INVENTORY_SIZE, ItemStack.EMPTY);
+
+    public QuarryControllerBlockEntity(BlockPos pos, BlockState state) {
+        super(SimpleQuarries.QUARRY_CONTROLLER_BLOCK_ENTITY, pos, state);
+    }
+
+    /**
+     * Insert {@code count} plain (component-less) items from a quarry
+     *
+     * @return how many didn't fit
+     */
+    public int insert(Item item, int count) {
+        int left = SlotInsertion.insert(items, 0, INVENTORY_SIZE, getMaxCountPerStack(), item, count);
+        if (left != count) {
+            markDirty();
+        }
+        return left;
+    }
+
+    /**
+     * Insert a stack a quarry owns
+     *
+     * @return what didn't fit, or {@link ItemStack#EMPTY}
+     */
+    public ItemStack insert(ItemStack stack) {
+        int count = stack.getCount();
+        ItemStack remainder = SlotInsertion.insert(items, 0, INVENTORY_SIZE, getMaxCountPerStack(), stack);
+        if (remainder.getCount() != count) {
+            markDirty();
+        }
+        return remainder;
+    }
+
+    public int getFreeCapacity() {
+        return SlotInsertion.freeCapacity(items, 0, INVENTORY_SIZE, getMaxCountPerStack());
+    }
+
+    // ==================== NBT Serialization ====================
+
+    @Override
+    protected void writeData(WriteView data) {
+        Inventories.writeData(data, items);
+    }
+
+    @Override
+    protected void readData(ReadView data) {
+        items.clear();
+        Inventories.readData(data, items);
+    }
+
+    // ==================== Inventory Implementation ====================
+
+    @Override
+    public int size() {
+        return items.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (ItemStack stack : items) {
+            if (!stack.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public ItemStack getStack(int slot) {
+        return items.get(slot);
+    }
+
+    @Override
+    public ItemStack removeStack(int slot, int amount) {
+        ItemStack result = Inventories.splitStack(items, slot, amount);
+        if (!result.isEmpty()) {
+            markDirty();
+        }
+        return result;
+    }
+
+    @Override
+    public ItemStack removeStack(int slot) {
+        ItemStack result = Inventories.removeStack(items, slot);
+        if (!result.isEmpty()) {
+            markDirty();
+        }
+        return result;
+    }
+
+    @Override
+    public void setStack(int slot, ItemStack stack) {
+        items.set(slot, stack);
+        stack.capCount(getMaxCount(stack));
+        markDirty();
+    }
+
+    @Override
+    public void clear() {
+        items.clear();
+        markDirty();
+    }
+
+    @Override
+    public boolean canPlayerUse(PlayerEntity player) {
+        if (world == null || world.getBlockEntity(pos) != this) {
+            return false;
+        }
+        return player.squaredDistanceTo(Vec3d.ofCenter(pos)) <= 64.0;
+    }
+
+    // ==================== Screen Handler Factory ====================
+
+    @Override
+    public ScreenHandler createMenu(int syncId, PlayerInventory playerInventory, PlayerEntity player) {
+        return GenericContainerScreenHandler.createGeneric9x6(syncId, playerInventory, this);
+    }
+
+    @Override
+    public Text getDisplayName() {
+        return Text.translatable("block.simplequarries.quarry_controller");
+    }
+}
@@ -0,0 +1,27 @@
+package com.simplequarries.command;
+
+import com.simplequarries.config.QuarryConfig;
+import com.simplequarries.mining.BlockClassifier;
+import net.fabricmc.fabric.api.command.v2.CommandRegistrationCallback;
+import net.minecraft.server.command.CommandManager;
+import net.minecraft.text.Text;
+
+public final class QuarryCommands {
+    private QuarryCommands() {}
+
+    public static void register() {
+        CommandRegistrationCallback.EVENT.register((dispatcher, registryAccess, environment) -> dispatcher.register(
+                CommandManager.literal("quarry")
+                        .requires(source -> source.hasPermissionLevel(2))
+                        .then(CommandManager.literal("reload").executes(context -> {
+                            if (!QuarryConfig.reload()) {
+                                context.getSource().sendError(Text.literal("Failed to reload the quarry config, see the server log"));
+                                return 0;
+                            }
+                            BlockClassifier.rebuild();
+                            context.getSource().sendFeedback(() -> Text.literal("Reloaded the quarry config"), true);
+                            return 1;
+                        }))
+        ));
+    }
+}
@@ -11,10 +11,35 @@ import net.minecraft.util.Identifier;
 public final class QuarryComponents {
     private QuarryComponents() {}
 
+    public static ComponentType<QuarryUpgradesComponent> QUARRY_UPGRADES;
+    public static ComponentType<QuarryStateComponent> QUARRY_STATE;
+
+    // Older per-count components. Still registered so old stacks decode, then migrated
+    // into QUARRY_UPGRADES by QuarryBlockItem#postProcessComponents.
+    @Deprecated
     public static ComponentType<Integer> UPGRADE_COUNT;
+    @Deprecated
     public static ComponentType<Integer> SPEED_UPGRADE_COUNT;
 
     public static void register() {
+        QUARRY_UPGRADES = Registry.register(
+                Registries.DATA_COMPONENT_TYPE,
+                Identifier.of(SimpleQuarries.MOD_ID, "quarry_upgrades"),
+                ComponentType.<QuarryUpgradesComponent>builder()
+                        .codec(QuarryUpgradesComponent.CODEC)
+                        .packetCodec(QuarryUpgradesComponent.PACKET_CODEC)
+                        .build()
+        );
+
+        QUARRY_STATE = Registry.register(
+                Registries.DATA_COMPONENT_TYPE,
+                Identifier.of(SimpleQuarries.MOD_ID, "quarry_state"),
+                ComponentType.<QuarryStateComponent>builder()
+                        .codec(QuarryStateComponent.CODEC)
+                        .packetCodec(QuarryStateComponent.PACKET_CODEC)
+                        .build()
+        );
+
         UPGRADE_COUNT = Registry.register(
                 Registries.DATA_COMPONENT_TYPE,
                 Identifier.of(SimpleQuarries.MOD_ID, "quarry_upgrade_count"),
@@ -33,4 +58,4 @@ public final class QuarryComponents {
                         .build()
         );
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,41 @@
+package com.simplequarries.component;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.codec.PacketCodecs;
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * Mining progress carried by a broken quarry: where it was, the layer and position
+ * its scan had reached (chunk column, layer and area index), the fuel left in its buffer
+ * and its area mode.
+ */
+public record QuarryStateComponent(BlockPos origin, int layerY, int areaIndex, int burnTime, int areaMode, int chunkIndex) {
+    public static final Codec<QuarryStateComponent> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+            BlockPos.CODEC.fieldOf("origin").forGetter(QuarryStateComponent::origin),
+            Codec.INT.fieldOf("layer_y").forGetter(QuarryStateComponent::layerY),
+            Codec.INT.optionalFieldOf("area_index", 0).forGetter(QuarryStateComponent::areaIndex),
+            Codec.INT.optionalFieldOf("burn_time", 0).forGetter(QuarryStateComponent::burnTime),
+            Codec.INT.optionalFieldOf("area_mode", 0).forGetter(QuarryStateComponent::areaMode),
+            Codec.INT.optionalFieldOf("chunk_index", 0).forGetter(QuarryStateComponent::chunkIndex)
+    ).apply(instance, QuarryStateComponent::new));
+
+    public static final PacketCodec<ByteBuf, QuarryStateComponent> PACKET_CODEC = PacketCodec.tuple(
+            BlockPos.PACKET_CODEC, QuarryStateComponent::origin,
+            PacketCodecs.VAR_INT, QuarryStateComponent::layerY,
+            PacketCodecs.VAR_INT, QuarryStateComponent::areaIndex,
+            PacketCodecs.VAR_INT, QuarryStateComponent::burnTime,
+            PacketCodecs.VAR_INT, QuarryStateComponent::areaMode,
+            PacketCodecs.VAR_INT, QuarryStateComponent::chunkIndex,
+            QuarryStateComponent::new
+    );
+
+    /**
+     * The scan position only carries over when the quarry goes back into the same column
+     */
+    public boolean sameColumn(BlockPos pos) {
+        return origin.getX() == pos.getX() && origin.getZ() == pos.getZ();
+    }
+}
@@ -0,0 +1,40 @@
+package com.simplequarries.component;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import com.simplequarries.QuarryUpgrades;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.codec.PacketCodecs;
+
+/**
+ * Area and speed upgrades installed in a quarry item. Values are clamped on construction,
+ * so readers can use them as they are.
+ */
+public record QuarryUpgradesComponent(int area, int speed) {
+    public static final QuarryUpgradesComponent DEFAULT = new QuarryUpgradesComponent(0, 0);
+
+    public static final Codec<QuarryUpgradesComponent> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+            Codec.INT.optionalFieldOf("area", 0).forGetter(QuarryUpgradesComponent::area),
+            Codec.INT.optionalFieldOf("speed", 0).forGetter(QuarryUpgradesComponent::speed)
+    ).apply(instance, QuarryUpgradesComponent::new));
+
+    public static final PacketCodec<ByteBuf, QuarryUpgradesComponent> PACKET_CODEC = PacketCodec.tuple(
+            PacketCodecs.VAR_INT, QuarryUpgradesComponent::area,
+            PacketCodecs.VAR_INT, QuarryUpgradesComponent::speed,
+            QuarryUpgradesComponent::new
+    );
+
+    public QuarryUpgradesComponent {
+        area = QuarryUpgrades.clampUpgradeCount(area);
+        speed = QuarryUpgrades.clampSpeedCount(speed);
+    }
+
+    public QuarryUpgradesComponent withArea(int area) {
+        return new QuarryUpgradesComponent(area, speed);
+    }
+
+    public QuarryUpgradesComponent withSpeed(int speed) {
+        return new QuarryUpgradesComponent(area, speed);
+    }
+}
@@ -0,0 +1,267 @@
+package com.simplequarries.config;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.simplequarries.SimpleQuarries;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import net.fabricmc.loader.api.FabricLoader;
+import net.minecraft.block.Block;
+import net.minecraft.item.Item;
+import net.minecraft.registry.Registries;
+import net.minecraft.registry.RegistryKeys;
+import net.minecraft.registry.tag.TagKey;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.MathHelper;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Server-side tuning knobs, stored in {@code config/simplequarries.json}.
+ *
+ * The file is written with the defaults on first start and can be edited and
+ * re-read at runtime with {@code /quarry reload}. Readers should call {@link #get()}
+ * every time rather than keeping a reference, so a reload takes effect on the next tick.
+ */
+public final class QuarryConfig {
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+    private static final String FILE_NAME = SimpleQuarries.MOD_ID + ".json";
+
+    private static volatile QuarryConfig instance = new QuarryConfig().validate();
+
+    public enum ChunkLoadingPolicy {
+        ALWAYS,      // every active quarry forces its chunk
+        NEVER,       // no quarry forces chunks, all of them catch up after reloads
+        PER_QUARRY   // each quarry's own toggle decides
+    }
+
+    public enum OverflowPolicy {
+        DROP,   // spill items above the quarry
+        VOID,   // delete items that don't fit
+        PAUSE   // stop mining until there is room again
+    }
+
+    // ---- Mining speed ----
+
+    /** Ticks per block for each pickaxe before Efficiency and speed upgrades */
+    public Map<String, Integer> baseTicksPerBlock = defaultBaseTicks();
+    /** Speed multiplier for 0..5 speed upgrades */
+    public double[] speedMultipliers = { 1.0, 0.8, 0.6, 0.4, 0.2, 0.0 };
+    /** Most blocks one quarry may mine in a tick once upgrades bring it below one tick per block */
+    public int maxBlocksPerTick = 1;
+    /** Width of a large-area quarry in chunks (4 = 64x64 blocks) */
+    public int largeAreaChunks = 4;
+
+    // ---- Scanning and storage ----
+
+    /** Minimum number of positions findNextTarget may look at per call */
+    public int scanBudget = 512;
+    /** How many of the 24 output slots are used */
+    public int outputSlots = 24;
+    /** Blocks of fuel the internal buffer can hold */
+    public int fuelBufferCap = 6400;
+    /** What to do with drops that don't fit into the output slots: drop, void or pause */
+    public String overflowPolicy = "drop";
+    /** Block tag that counts as ore for the "ores only" filter mode */
+    public String oreTag = "c:ores";
+    /** Blocks (in each direction) within which quarries deliver to a quarry controller */
+    public int controllerRadius = 16;
+    /** Broken quarries keep their inventory, fuel and mining position in the item, like a shulker box */
+    public boolean keepContentsOnBreak = true;
+
+    // ---- Chunks and scheduling ----
+
+    /** Chunk forcing: always, never or per_quarry */
+    public String chunkLoadingPolicy = "per_quarry";
+    /** Extra blocks per tick while catching up on time spent unloaded */
+    public int catchUpBlocksPerTick = 8;
+    /** Total time all quarries together may spend mining per server tick, in microseconds (0 = no limit) */
+    public int schedulerBudgetMicros = 0;
+    /** Ticks a quarry trusts cached claim/protection answers before asking the permission providers again */
+    public int permissionCacheTicks = 1200;
+    /** Average tick time in milliseconds above which quarries get throttled (0 = never throttle) */
+    public double throttleMspt = 45.0;
+    /** Average tick time in milliseconds below which throttled quarries start running again */
+    public double recoverMspt = 40.0;
+    /** Smallest fraction of quarries that keep mining while throttled */
+    public double minThrottleShare = 0.1;
+
+    private transient Reference2IntMap<Item> resolvedBaseTicks;
+    private transient ChunkLoadingPolicy resolvedChunkLoading;
+    private transient OverflowPolicy resolvedOverflow;
+    private transient TagKey<Block> resolvedOreTag;
+
+    public static QuarryConfig get() {
+        return instance;
+    }
+
+    /**
+     * Load the config file, writing the defaults if it doesn't exist yet
+     */
+    public static void load() {
+        Path path = FabricLoader.getInstance().getConfigDir().resolve(FILE_NAME);
+        QuarryConfig config = read(path);
+        if (config == null) {
+            config = new QuarryConfig();
+            if (Files.notExists(path)) {
+                write(path, config);
+            }
+        }
+        instance = config.validate();
+    }
+
+    /**
+     * Re-read the config file at runtime.
+     *
+     * @return false if the file couldn't be parsed, in which case the current values are kept
+     */
+    public static boolean reload() {
+        Path path = FabricLoader.getInstance().getConfigDir().resolve(FILE_NAME);
+        QuarryConfig config = read(path);
+        if (config == null) {
+            return false;
+        }
+        instance = config.validate();
+        SimpleQuarries.LOGGER.info("Reloaded quarry config");
+        return true;
+    }
+
+    private static QuarryConfig read(Path path) {
+        if (Files.notExists(path)) {
+            return null;
+        }
+        try (Reader reader = Files.newBufferedReader(path)) {
+            return GSON.fromJson(reader, QuarryConfig.class);
+        } catch (Exception e) {
+            SimpleQuarries.LOGGER.error("Failed to read quarry config {}", path, e);
+            return null;
+        }
+    }
+
+    private static void write(Path path, QuarryConfig config) {
+        try {
+            Files.createDirectories(path.getParent());
+            try (Writer writer = Files.newBufferedWriter(path)) {
+                GSON.toJson(config, writer);
+            }
+        } catch (IOException e) {
+            SimpleQuarries.LOGGER.error("Failed to write quarry config {}", path, e);
+        }
+    }
+
+    /**
+     * Clamp everything into a usable range and resolve names into registry objects
+     */
+    private QuarryConfig validate() {
+        if (baseTicksPerBlock == null) {
+            baseTicksPerBlock = defaultBaseTicks();
+        }
+        if (speedMultipliers == null || speedMultipliers.length == 0) {
+            speedMultipliers = new double[] { 1.0 };
+        }
+        maxBlocksPerTick = MathHelper.clamp(maxBlocksPerTick, 1, 64);
+        largeAreaChunks = MathHelper.clamp(largeAreaChunks, 1, 32);
+        scanBudget = MathHelper.clamp(scanBudget, 16, 65536);
+        outputSlots = MathHelper.clamp(outputSlots, 1, 24);
+        controllerRadius = MathHelper.clamp(controllerRadius, 0, 256);
+        fuelBufferCap = MathHelper.clamp(fuelBufferCap, 1, 1_000_000);
+        catchUpBlocksPerTick = MathHelper.clamp(catchUpBlocksPerTick, 0, 256);
+        schedulerBudgetMicros = Math.max(0, schedulerBudgetMicros);
+        permissionCacheTicks = MathHelper.clamp(permissionCacheTicks, 1, 72000);
+        throttleMspt = Math.max(0.0, throttleMspt);
+        recoverMspt = MathHelper.clamp(recoverMspt, 0.0, throttleMspt);
+        minThrottleShare = MathHelper.clamp(minThrottleShare, 0.0, 1.0);
+
+        resolvedChunkLoading = parseEnum(ChunkLoadingPolicy.class, chunkLoadingPolicy, ChunkLoadingPolicy.PER_QUARRY);
+        resolvedOverflow = parseEnum(OverflowPolicy.class, overflowPolicy, OverflowPolicy.DROP);
+
+        Identifier oreTagId = oreTag == null ? null : Identifier.tryParse(oreTag.startsWith("#") ? oreTag.substring(1) : oreTag);
+        if (oreTagId == null) {
+            SimpleQuarries.LOGGER.warn("Invalid ore tag '{}' in quarry config, using c:ores", oreTag);
+            oreTagId = Identifier.of("c", "ores");
+        }
+        resolvedOreTag = TagKey.of(RegistryKeys.BLOCK, oreTagId);
+
+        resolvedBaseTicks = new Reference2IntOpenHashMap<>();
+        resolvedBaseTicks.defaultReturnValue(0);
+        for (Map.Entry<String, Integer> entry : baseTicksPerBlock.entrySet()) {
+            Identifier id = Identifier.tryParse(entry.getKey());
+            if (id == null || entry.getValue() == null) {
+                continue;
+            }
+            Registries.ITEM.getOptionalValue(id).ifPresentOrElse(
+                    item -> resolvedBaseTicks.put(item, Math.max(1, entry.getValue())),
+                    () -> SimpleQuarries.LOGGER.warn("Unknown pickaxe {} in quarry config", id));
+        }
+        return this;
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value, E fallback) {
+        if (value == null) {
+            return fallback;
+        }
+        try {
+            return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            SimpleQuarries.LOGGER.warn("Unknown value '{}' for {} in quarry config, using {}", value, type.getSimpleName(), fallback);
+            return fallback;
+        }
+    }
+
+    private static Map<String, Integer> defaultBaseTicks() {
+        Map<String, Integer> ticks = new LinkedHashMap<>();
+        ticks.put("minecraft:wooden_pickaxe", 200);
+        ticks.put("minecraft:stone_pickaxe", 160);
+        ticks.put("minecraft:copper_pickaxe", 140);
+        ticks.put("minecraft:iron_pickaxe", 120);
+        ticks.put("minecraft:golden_pickaxe", 20);
+        ticks.put("minecraft:diamond_pickaxe", 80);
+        ticks.put("minecraft:netherite_pickaxe", 40);
+        return ticks;
+    }
+
+    // ==================== Accessors ====================
+
+    /**
+     * Base ticks per block for a pickaxe, 0 if it isn't configured
+     */
+    public int getBaseTicks(Item item) {
+        return resolvedBaseTicks.getInt(item);
+    }
+
+    public double getSpeedMultiplier(int upgrades) {
+        return speedMultipliers[MathHelper.clamp(upgrades, 0, speedMultipliers.length - 1)];
+    }
+
+    /**
+     * How many blocks to mine each time the progress bar fills, for a (possibly fractional) ticks-per-block rate
+     */
+    public int getBlocksPerCycle(double rawTicksPerBlock) {
+        if (rawTicksPerBlock >= 1.0) {
+            return 1;
+        }
+        if (rawTicksPerBlock <= 0.0) {
+            return maxBlocksPerTick;
+        }
+        return MathHelper.clamp((int) (1.0 / rawTicksPerBlock), 1, maxBlocksPerTick);
+    }
+
+    public ChunkLoadingPolicy getChunkLoadingPolicy() {
+        return resolvedChunkLoading;
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return resolvedOverflow;
+    }
+
+    public TagKey<Block> getOreTag() {
+        return resolvedOreTag;
+    }
+}
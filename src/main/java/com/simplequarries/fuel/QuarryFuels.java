@@ -0,0 +1,168 @@
+package com.simplequarries.fuel;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.simplequarries.SimpleQuarries;
+import com.simplequarries.network.QuarryFuelsPayload;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import net.fabricmc.fabric.api.resource.ResourceManagerHelper;
+import net.fabricmc.fabric.api.resource.SimpleSynchronousResourceReloadListener;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.registry.Registries;
+import net.minecraft.registry.RegistryKeys;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.registry.tag.TagKey;
+import net.minecraft.resource.Resource;
+import net.minecraft.resource.ResourceManager;
+import net.minecraft.resource.ResourceType;
+import net.minecraft.util.Identifier;
+
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fuel values (blocks mined per item), loaded from {@code data/<namespace>/quarry_fuels/*.json}.
+ *
+ * <pre>
+ * {
+ *   "replace": false,
+ *   "values": {
+ *     "minecraft:coal": 8,
+ *     "#minecraft:logs_that_burn": 2
+ *   }
+ * }
+ * </pre>
+ *
+ * Entries starting with {@code #} are item tags. Tags can only be resolved once the
+ * reload has finished, so files are parsed into raw entries first and flattened into
+ * a primitive item -> int map the first time a value is asked for. Explicit items
+ * always win over tags. The server sends the flattened map to clients so slot
+ * checks in the quarry screen agree with the server.
+ */
+public final class QuarryFuels {
+    private static final String DIRECTORY = "quarry_fuels";
+
+    public static final QuarryFuels SERVER = new QuarryFuels();
+    public static final QuarryFuels CLIENT = new QuarryFuels();
+
+    private record Entry(Identifier id, boolean tag, int value) {
+    }
+
+    private List<Entry> entries = List.of();
+    private Reference2IntMap<Item> values = null;
+
+    private QuarryFuels() {}
+
+    public static void register() {
+        ResourceManagerHelper.get(ResourceType.SERVER_DATA).registerReloadListener(new SimpleSynchronousResourceReloadListener() {
+            @Override
+            public Identifier getFabricId() {
+                return Identifier.of(SimpleQuarries.MOD_ID, DIRECTORY);
+            }
+
+            @Override
+            public void reload(ResourceManager manager) {
+                SERVER.load(manager);
+            }
+        });
+
+        // Sent on join and again after every /reload
+        ServerLifecycleEvents.SYNC_DATA_PACK_CONTENTS.register((player, joined) ->
+                ServerPlayNetworking.send(player, new QuarryFuelsPayload(SERVER.toMap())));
+    }
+
+    public static QuarryFuels forSide(boolean client) {
+        return client ? CLIENT : SERVER;
+    }
+
+    /**
+     * Blocks mined per item of this fuel, 0 if it isn't a fuel
+     */
+    public int getValue(ItemStack stack) {
+        if (stack.isEmpty()) {
+            return 0;
+        }
+        return resolve().getInt(stack.getItem());
+    }
+
+    /**
+     * Replace the values with the ones received from the server
+     */
+    public void apply(Map<Item, Integer> synced) {
+        Reference2IntOpenHashMap<Item> map = new Reference2IntOpenHashMap<>(synced);
+        map.defaultReturnValue(0);
+        values = map;
+    }
+
+    private Map<Item, Integer> toMap() {
+        return new HashMap<>(resolve());
+    }
+
+    private void load(ResourceManager manager) {
+        List<Entry> loaded = new ArrayList<>();
+        for (Map.Entry<Identifier, List<Resource>> file : manager.findAllResources(DIRECTORY, id -> id.getPath().endsWith(".json")).entrySet()) {
+            // Resources come lowest priority pack first; like tags, "replace" only drops what
+            // lower priority packs put in the same file, not other files
+            List<Entry> fileEntries = new ArrayList<>();
+            for (Resource resource : file.getValue()) {
+                try (Reader reader = resource.getReader()) {
+                    JsonObject json = JsonParser.parseReader(reader).getAsJsonObject();
+                    if (json.has("replace") && json.get("replace").getAsBoolean()) {
+                        fileEntries.clear();
+                    }
+                    for (Map.Entry<String, JsonElement> value : json.getAsJsonObject("values").entrySet()) {
+                        String key = value.getKey();
+                        boolean tag = key.startsWith("#");
+                        fileEntries.add(new Entry(Identifier.of(tag ? key.substring(1) : key), tag, value.getValue().getAsInt()));
+                    }
+                } catch (Exception e) {
+                    SimpleQuarries.LOGGER.error("Failed to load quarry fuels from {} in {}", file.getKey(), resource.getPackId(), e);
+                }
+            }
+            loaded.addAll(fileEntries);
+        }
+
+        entries = loaded;
+        values = null;
+        SimpleQuarries.LOGGER.info("Loaded {} quarry fuel entries", loaded.size());
+    }
+
+    private Reference2IntMap<Item> resolve() {
+        Reference2IntMap<Item> resolved = values;
+        if (resolved != null) {
+            return resolved;
+        }
+
+        Reference2IntOpenHashMap<Item> map = new Reference2IntOpenHashMap<>();
+        map.defaultReturnValue(0);
+        // Tags first so explicit items override them
+        for (Entry entry : entries) {
+            if (entry.tag()) {
+                TagKey<Item> tag = TagKey.of(RegistryKeys.ITEM, entry.id());
+                for (RegistryEntry<Item> item : Registries.ITEM.iterateEntries(tag)) {
+                    map.put(item.value(), entry.value());
+                }
+            }
+        }
+        for (Entry entry : entries) {
+            if (!entry.tag()) {
+                Registries.ITEM.getOptionalValue(entry.id()).ifPresentOrElse(
+                        item -> map.put(item, entry.value()),
+                        () -> SimpleQuarries.LOGGER.warn("Unknown quarry fuel item {}", entry.id()));
+            }
+        }
+        // Values of 0 or less remove an item that a tag added
+        map.values().removeIf(value -> value <= 0);
+
+        values = map;
+        return map;
+    }
+}
@@ -2,6 +2,8 @@ package com.simplequarries.item;
 
 import com.simplequarries.QuarryUpgrades;
 import com.simplequarries.component.QuarryComponents;
+import com.simplequarries.component.QuarryStateComponent;
+import com.simplequarries.component.QuarryUpgradesComponent;
 import net.minecraft.block.Block;
 import net.minecraft.item.BlockItem;
 import net.minecraft.item.Item;
@@ -21,60 +23,68 @@ public class QuarryBlockItem extends BlockItem {
         super(block, settings);
     }
 
+    public static QuarryUpgradesComponent getUpgrades(ItemStack stack) {
+        return stack.getOrDefault(QuarryComponents.QUARRY_UPGRADES, QuarryUpgradesComponent.DEFAULT);
+    }
+
     public static int getUpgradeCount(ItemStack stack) {
-        int fromComponent = stack.getOrDefault(QuarryComponents.UPGRADE_COUNT, 0);
-        if (fromComponent > 0) {
-            return QuarryUpgrades.clampUpgradeCount(fromComponent);
-        }
-        // Fallback for stacks that only carry BlockEntityTag (e.g., drops)
-        var blockEntityData = stack.get(DataComponentTypes.BLOCK_ENTITY_DATA);
-        if (blockEntityData != null) {
-            NbtCompound nbt = blockEntityData.copyNbtWithoutId();
-            int fromTag = nbt.getInt("UpgradeCount").orElse(0);
-            if (fromTag > 0) {
-                return QuarryUpgrades.clampUpgradeCount(fromTag);
-            }
-        }
-        return 0;
+        return getUpgrades(stack).area();
     }
 
     public static void setUpgradeCount(ItemStack stack, int count) {
-        int clamped = QuarryUpgrades.clampUpgradeCount(count);
-        stack.set(QuarryComponents.UPGRADE_COUNT, clamped);
+        stack.set(QuarryComponents.QUARRY_UPGRADES, getUpgrades(stack).withArea(count));
     }
 
     public static int getSpeedUpgradeCount(ItemStack stack) {
-        int fromComponent = stack.getOrDefault(QuarryComponents.SPEED_UPGRADE_COUNT, 0);
-        if (fromComponent > 0) {
-            return QuarryUpgrades.clampSpeedCount(fromComponent);
-        }
-        // Fallback for stacks that only carry BlockEntityTag (e.g., drops)
-        var blockEntityData = stack.get(DataComponentTypes.BLOCK_ENTITY_DATA);
-        if (blockEntityData != null) {
-            NbtCompound nbt = blockEntityData.copyNbtWithoutId();
-            int fromTag = nbt.getInt("SpeedUpgradeCount").orElse(0);
-            if (fromTag > 0) {
-                return QuarryUpgrades.clampSpeedCount(fromTag);
-            }
-        }
-        return 0;
+        return getUpgrades(stack).speed();
     }
 
     public static void setSpeedUpgradeCount(ItemStack stack, int count) {
-        int clamped = QuarryUpgrades.clampSpeedCount(count);
-        stack.set(QuarryComponents.SPEED_UPGRADE_COUNT, clamped);
+        stack.set(QuarryComponents.QUARRY_UPGRADES, getUpgrades(stack).withSpeed(count));
     }
 
     public static int getMiningArea(ItemStack stack) {
         return QuarryUpgrades.areaForCount(getUpgradeCount(stack));
     }
 
+    /**
+     * Move upgrades stored by older versions (one component per count, or the
+     * BlockEntityTag of a dropped quarry) into {@link QuarryComponents#QUARRY_UPGRADES}.
+     * Runs once when the stack is created or loaded, so nothing else has to look at NBT.
+     */
+    @Override
+    @SuppressWarnings("deprecation")
+    public void postProcessComponents(ItemStack stack) {
+        super.postProcessComponents(stack);
+        if (stack.contains(QuarryComponents.QUARRY_UPGRADES)) {
+            return;
+        }
+
+        Integer legacyArea = stack.remove(QuarryComponents.UPGRADE_COUNT);
+        Integer legacySpeed = stack.remove(QuarryComponents.SPEED_UPGRADE_COUNT);
+        int area = legacyArea != null ? legacyArea : 0;
+        int speed = legacySpeed != null ? legacySpeed : 0;
+
+        var blockEntityData = stack.get(DataComponentTypes.BLOCK_ENTITY_DATA);
+        if (blockEntityData != null) {
+            NbtCompound nbt = blockEntityData.copyNbtWithoutId();
+            area = Math.max(area, nbt.getInt("UpgradeCount").orElse(0));
+            speed = Math.max(speed, nbt.getInt("SpeedUpgradeCount").orElse(0));
+        }
+
+        if (area > 0 || speed > 0) {
+            stack.set(QuarryComponents.QUARRY_UPGRADES, new QuarryUpgradesComponent(area, speed));
+        }
+    }
+
     @Override
     public void appendTooltip(ItemStack stack, Item.TooltipContext context, TooltipDisplayComponent display, Consumer<Text> textConsumer, TooltipType type) {
         super.appendTooltip(stack, context, display, textConsumer, type);
         
+        QuarryUpgradesComponent upgrades = getUpgrades(stack);
+
         // Area upgrades
-        int area = getMiningArea(stack);
+        int area = QuarryUpgrades.areaForCount(upgrades.area());
         boolean areaAtMax = area >= QuarryUpgrades.MAX_AREA;
         if (areaAtMax) {
             textConsumer.accept(Text.empty()
@@ -88,12 +98,21 @@ public class QuarryBlockItem extends BlockItem {
         }
         
         // Speed upgrades (always show)
-        int speed = getSpeedUpgradeCount(stack);
+        int speed = upgrades.speed();
         int percentBoost = (int) Math.round((1.0 - QuarryUpgrades.speedMultiplierForCount(speed)) * 100);
         boolean speedAtMax = speed >= QuarryUpgrades.MAX_SPEED_UPGRADES;
         textConsumer.accept(Text.empty()
             .append(Text.literal("Speed: ").formatted(Formatting.GRAY))
             .append(Text.literal("+" + percentBoost + "%").formatted(percentBoost > 0 ? Formatting.AQUA : Formatting.DARK_GRAY))
             .append(speedAtMax ? Text.literal(" (Max)").formatted(Formatting.GOLD) : Text.empty()));
+
+        // Progress carried over from a broken quarry
+        QuarryStateComponent state = stack.get(QuarryComponents.QUARRY_STATE);
+        if (state != null) {
+            textConsumer.accept(Text.empty()
+                .append(Text.literal("Resumes at Y: ").formatted(Formatting.GRAY))
+                .append(Text.literal(String.valueOf(state.layerY())).formatted(Formatting.YELLOW))
+                .append(Text.literal(" (same column)").formatted(Formatting.DARK_GRAY)));
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,40 @@
+package com.simplequarries.item;
+
+import com.simplequarries.world.QuarryStatusBoard;
+import net.minecraft.component.type.TooltipDisplayComponent;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.tooltip.TooltipType;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.text.Text;
+import net.minecraft.util.ActionResult;
+import net.minecraft.util.Formatting;
+import net.minecraft.util.Hand;
+import net.minecraft.world.World;
+
+import java.util.function.Consumer;
+
+/**
+ * Shows the status of all of the player's quarries, from wherever they are.
+ * The server answers from {@link QuarryStatusBoard}, so no quarry chunk is touched.
+ */
+public class QuarryTerminalItem extends Item {
+    public QuarryTerminalItem(Settings settings) {
+        super(settings);
+    }
+
+    @Override
+    public ActionResult use(World world, PlayerEntity user, Hand hand) {
+        if (user instanceof ServerPlayerEntity player) {
+            QuarryStatusBoard.open(player);
+        }
+        return ActionResult.SUCCESS;
+    }
+
+    @Override
+    public void appendTooltip(ItemStack stack, Item.TooltipContext context, TooltipDisplayComponent display, Consumer<Text> textConsumer, TooltipType type) {
+        super.appendTooltip(stack, context, display, textConsumer, type);
+        textConsumer.accept(Text.literal("Shows the status of all your quarries").formatted(Formatting.GRAY));
+    }
+}
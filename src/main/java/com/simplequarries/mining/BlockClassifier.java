@@ -0,0 +1,91 @@
+package com.simplequarries.mining;
+
+import com.simplequarries.SimpleQuarries;
+import com.simplequarries.config.QuarryConfig;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.registry.RegistryKeys;
+import net.minecraft.registry.tag.TagKey;
+import net.minecraft.state.property.Properties;
+import net.minecraft.util.Identifier;
+
+/**
+ * Everything a quarry needs to know about a block state, precomputed into one byte per state.
+ *
+ * The table is indexed by {@link Block#getRawIdFromState} and rebuilt when the server
+ * starts, after every datapack reload (tags may have changed) and when the config is
+ * reloaded (the ore tag may have changed). Arrays are swapped whole, so worker threads
+ * planning layers always see a complete table.
+ */
+public final class BlockClassifier {
+    public static final int AIR = 1;
+    public static final int UNBREAKABLE = 2;   // negative hardness, e.g. bedrock
+    public static final int FLUID = 4;         // fluid blocks and blocks that only exist in one, e.g. kelp
+    public static final int CONTAINER = 8;     // has a block entity that may hold items
+    public static final int ORE = 16;          // in the configured ore tag
+    public static final int IMMUNE = 32;       // in simplequarries:quarry_immune, or a quarry
+    public static final int WATERLOGGED = 64;  // a solid block holding a fluid; mined, the fluid stays behind
+
+    /** Any fluid a quarry may need to drain or seal */
+    public static final int HAS_FLUID = FLUID | WATERLOGGED;
+
+    /** Any of these and the quarry never breaks the block */
+    public static final int SKIP = AIR | UNBREAKABLE | FLUID | IMMUNE;
+
+    public static final TagKey<Block> QUARRY_IMMUNE = TagKey.of(RegistryKeys.BLOCK, Identifier.of(SimpleQuarries.MOD_ID, "quarry_immune"));
+
+    private static volatile byte[] table = new byte[0];
+
+    private BlockClassifier() {}
+
+    public static void register() {
+        ServerLifecycleEvents.SERVER_STARTED.register(server -> rebuild());
+        ServerLifecycleEvents.END_DATA_PACK_RELOAD.register((server, resourceManager, success) -> rebuild());
+    }
+
+    public static void rebuild() {
+        TagKey<Block> oreTag = QuarryConfig.get().getOreTag();
+        byte[] flags = new byte[Block.STATE_IDS.size()];
+        for (BlockState state : Block.STATE_IDS) {
+            flags[Block.getRawIdFromState(state)] = (byte) classify(state, oreTag);
+        }
+        table = flags;
+    }
+
+    /**
+     * Flags for a block state. Safe to call from any thread.
+     */
+    public static int get(BlockState state) {
+        byte[] flags = table;
+        int id = Block.getRawIdFromState(state);
+        if (id >= 0 && id < flags.length) {
+            return flags[id];
+        }
+        // Before the first rebuild
+        return classify(state, QuarryConfig.get().getOreTag());
+    }
+
+    private static int classify(BlockState state, TagKey<Block> oreTag) {
+        int flags = 0;
+        if (state.isAir()) {
+            flags |= AIR;
+        }
+        if (state.getBlock().getHardness() < 0) {
+            flags |= UNBREAKABLE;
+        }
+        if (!state.getFluidState().isEmpty()) {
+            flags |= state.contains(Properties.WATERLOGGED) ? WATERLOGGED : FLUID;
+        }
+        if (state.hasBlockEntity()) {
+            flags |= CONTAINER;
+        }
+        if (state.isIn(oreTag)) {
+            flags |= ORE;
+        }
+        if (state.isIn(QUARRY_IMMUNE) || state.getBlock() == SimpleQuarries.QUARRY_BLOCK) {
+            flags |= IMMUNE;
+        }
+        return flags;
+    }
+}
@@ -0,0 +1,80 @@
+package com.simplequarries.mining;
+
+import com.simplequarries.api.QuarryPermissions;
+import com.simplequarries.config.QuarryConfig;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.ChunkPos;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.BitSet;
+import java.util.UUID;
+
+/**
+ * One quarry's cached {@link QuarryPermissions} answers, one bit per chunk of its area.
+ *
+ * Chunks are asked about the first time a block in them is touched. The cache starts
+ * over when the area moves, the owner changes, the providers invalidate or
+ * {@code permissionCacheTicks} have passed.
+ */
+public final class ChunkPermissionCache {
+    private final BitSet checked = new BitSet();
+    private final BitSet allowed = new BitSet();
+    private int minChunkX;
+    private int minChunkZ;
+    private int width = -1;
+    private int generation;
+    private long expiresAt;
+
+    /**
+     * Whether the block column at x/z may be changed. Columns outside the bounds set
+     * with {@link #setBounds} are asked about directly.
+     */
+    public boolean canMine(ServerWorld world, @Nullable UUID owner, int x, int z) {
+        if (!QuarryPermissions.hasProviders()) {
+            return true;
+        }
+
+        if (generation != QuarryPermissions.getGeneration() || world.getTime() >= expiresAt) {
+            reset();
+            generation = QuarryPermissions.getGeneration();
+            expiresAt = world.getTime() + QuarryConfig.get().permissionCacheTicks;
+        }
+
+        int chunkX = x >> 4;
+        int chunkZ = z >> 4;
+        int dx = chunkX - minChunkX;
+        int dz = chunkZ - minChunkZ;
+        if (dx < 0 || dz < 0 || dx >= width || dz >= width) {
+            return QuarryPermissions.canMine(world, new ChunkPos(chunkX, chunkZ), owner);
+        }
+
+        int bit = dx + dz * width;
+        if (!checked.get(bit)) {
+            checked.set(bit);
+            if (QuarryPermissions.canMine(world, new ChunkPos(chunkX, chunkZ), owner)) {
+                allowed.set(bit);
+            }
+        }
+        return allowed.get(bit);
+    }
+
+    /**
+     * Cover a square block area, keeping cached answers if the covered chunks didn't change
+     */
+    public void setBounds(int minX, int minZ, int size) {
+        int newMinChunkX = minX >> 4;
+        int newMinChunkZ = minZ >> 4;
+        int newWidth = Math.max(((minX + size - 1) >> 4) - newMinChunkX, ((minZ + size - 1) >> 4) - newMinChunkZ) + 1;
+        if (newMinChunkX != minChunkX || newMinChunkZ != minChunkZ || newWidth != width) {
+            minChunkX = newMinChunkX;
+            minChunkZ = newMinChunkZ;
+            width = newWidth;
+            reset();
+        }
+    }
+
+    public void reset() {
+        checked.clear();
+        allowed.clear();
+    }
+}
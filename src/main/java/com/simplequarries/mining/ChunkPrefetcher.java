@@ -0,0 +1,57 @@
+package com.simplequarries.mining;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.chunk.ChunkStatus;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Loads the chunks a quarry is about to mine without blocking the server thread.
+ *
+ * Reading a block in an unloaded chunk through the world loads (or generates) that chunk
+ * synchronously. Instead the quarry asks here first: a chunk that isn't loaded yet gets
+ * an asynchronous load request through the chunk manager, and the caller defers whatever
+ * it wanted to do there until a later tick.
+ */
+public class ChunkPrefetcher {
+    private final Long2ObjectOpenHashMap<CompletableFuture<?>> pending = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * Whether the chunk is loaded right now. If it isn't, a load is requested (once).
+     */
+    public boolean isReady(ServerWorld world, int chunkX, int chunkZ) {
+        long key = ChunkPos.toLong(chunkX, chunkZ);
+        if (world.getChunkManager().isChunkLoaded(chunkX, chunkZ)) {
+            if (!pending.isEmpty()) {
+                pending.remove(key);
+            }
+            return true;
+        }
+
+        CompletableFuture<?> future = pending.get(key);
+        if (future == null || future.isDone()) {
+            // Done but not loaded means it was unloaded again before we got to it - ask again
+            pending.put(key, world.getChunkManager().getChunkFutureSyncOnMainThread(chunkX, chunkZ, ChunkStatus.FULL, true));
+        }
+        return false;
+    }
+
+    /**
+     * Request every chunk of a block area, returning whether all of them are already loaded
+     */
+    public boolean prefetch(ServerWorld world, int minX, int minZ, int sizeX, int sizeZ) {
+        boolean ready = true;
+        for (int cx = minX >> 4; cx <= (minX + sizeX - 1) >> 4; cx++) {
+            for (int cz = minZ >> 4; cz <= (minZ + sizeZ - 1) >> 4; cz++) {
+                ready &= isReady(world, cx, cz);
+            }
+        }
+        return ready;
+    }
+
+    public void clear() {
+        pending.clear();
+    }
+}
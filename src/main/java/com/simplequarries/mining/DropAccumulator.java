@@ -0,0 +1,84 @@
+package com.simplequarries.mining;
+
+import com.simplequarries.api.BatchDrops;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Collects the drops of a whole mining batch so they can be filtered and inserted
+ * once per distinct item instead of once per broken block.
+ *
+ * Plain drops (no component changes - nearly everything a quarry mines) are kept as
+ * item -> count. Drops with components, e.g. named shulker boxes or Silk Touch on a
+ * block with data, are merged into a short list of stacks so nothing is lost.
+ * The instance is reused between batches, so a steady quarry allocates nothing here.
+ */
+public final class DropAccumulator implements BatchDrops {
+    private final Reference2IntOpenHashMap<Item> plain = new Reference2IntOpenHashMap<>();
+    private final List<ItemStack> withComponents = new ArrayList<>();
+    private int totalCount = 0;
+
+    /**
+     * Take ownership of a freshly dropped stack. The stack must not be used afterwards.
+     */
+    public void add(ItemStack drop) {
+        if (drop.isEmpty()) {
+            return;
+        }
+        totalCount += drop.getCount();
+        if (drop.getComponentChanges().isEmpty()) {
+            plain.addTo(drop.getItem(), drop.getCount());
+            return;
+        }
+        for (ItemStack existing : withComponents) {
+            if (ItemStack.areItemsAndComponentsEqual(existing, drop)) {
+                existing.increment(drop.getCount());
+                return;
+            }
+        }
+        withComponents.add(drop);
+    }
+
+    public boolean isEmpty() {
+        return totalCount == 0;
+    }
+
+    /**
+     * Number of items collected since the last {@link #clear()}
+     */
+    @Override
+    public int getTotalCount() {
+        return totalCount;
+    }
+
+    public Iterable<Reference2IntMap.Entry<Item>> plainEntries() {
+        return plain.reference2IntEntrySet();
+    }
+
+    @Override
+    public void forEachPlain(ObjIntConsumer<Item> action) {
+        for (Reference2IntMap.Entry<Item> entry : plain.reference2IntEntrySet()) {
+            action.accept(entry.getKey(), entry.getIntValue());
+        }
+    }
+
+    /**
+     * Merged drops that carry components. Counts may exceed the item's max stack size.
+     */
+    @Override
+    public List<ItemStack> stacksWithComponents() {
+        return withComponents;
+    }
+
+    public void clear() {
+        plain.clear();
+        withComponents.clear();
+        totalCount = 0;
+    }
+}
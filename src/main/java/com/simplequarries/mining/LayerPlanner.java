@@ -0,0 +1,178 @@
+package com.simplequarries.mining;
+
+import com.simplequarries.SimpleQuarries;
+import net.minecraft.block.BlockState;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.Util;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.PalettedContainer;
+import net.minecraft.world.chunk.WorldChunk;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.BitSet;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Plans a quarry layer off the server thread.
+ *
+ * The server thread only copies the block-state containers of the chunk sections
+ * the layer touches; deciding which positions are worth visiting happens on a
+ * worker thread. A plan is only a hint - every planned target is still checked
+ * against the live world before it is broken, so a stale plan can at worst make
+ * the quarry skip a block that appeared after the snapshot was taken.
+ */
+public class LayerPlanner {
+
+    /**
+     * Candidate positions of one layer, indexed the same way as the quarry's area index
+     */
+    public static final class Plan {
+        private final int depth;
+        private final int areaSize;
+        private final BitSet candidates;
+
+        private Plan(int depth, int areaSize, BitSet candidates) {
+            this.depth = depth;
+            this.areaSize = areaSize;
+            this.candidates = candidates;
+        }
+
+        public int getDepth() {
+            return depth;
+        }
+
+        public int getAreaSize() {
+            return areaSize;
+        }
+
+        /**
+         * First area index at or after {@code index} that may hold a minable block, or -1 if none is left
+         */
+        public int nextCandidate(int index) {
+            return candidates.nextSetBit(index);
+        }
+    }
+
+    /**
+     * Immutable copy of the sections one layer touches.
+     * A null section means the chunk wasn't loaded, so its positions have to be checked live.
+     */
+    private record Snapshot(int minX, int minZ, int y, int areaSize, int minChunkX, int minChunkZ, int chunksX,
+                            @Nullable PalettedContainer<BlockState>[] sections, boolean[] emptySections,
+                            int requiredFlags) {
+    }
+
+    @Nullable
+    private CompletableFuture<Plan> pending;
+    @Nullable
+    private Plan ready;
+
+    /**
+     * Get the plan for a layer if it has already been computed. Never blocks.
+     */
+    @Nullable
+    public Plan getPlan(int depth, int areaSize) {
+        if (pending != null && pending.isDone()) {
+            ready = pending.getNow(null);
+            pending = null;
+        }
+        if (ready != null && ready.depth == depth && ready.areaSize == areaSize) {
+            return ready;
+        }
+        return null;
+    }
+
+    /**
+     * Start planning a layer in the background, unless that layer is already planned or being planned.
+     * Must be called on the server thread since it reads the live chunks.
+     *
+     * @param requiredFlags {@link BlockClassifier} flags a block needs to become a candidate, e.g. ORE
+     */
+    public void request(ServerWorld world, int minX, int minZ, int y, int depth, int areaSize, int requiredFlags) {
+        if (pending != null || getPlan(depth, areaSize) != null) {
+            return;
+        }
+        if (y < world.getBottomY() || y > world.getTopYInclusive()) {
+            return;
+        }
+
+        Snapshot snapshot = takeSnapshot(world, minX, minZ, y, areaSize, requiredFlags);
+        pending = CompletableFuture.supplyAsync(() -> plan(snapshot, depth), Util.getMainWorkerExecutor())
+                .exceptionally(throwable -> {
+                    SimpleQuarries.LOGGER.warn("Failed to plan quarry layer at y={}", y, throwable);
+                    return null;
+                });
+    }
+
+    /**
+     * Drop any plan, e.g. when the mining area changes
+     */
+    public void invalidate() {
+        if (pending != null) {
+            pending.cancel(false);
+            pending = null;
+        }
+        ready = null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Snapshot takeSnapshot(ServerWorld world, int minX, int minZ, int y, int areaSize, int requiredFlags) {
+        int minChunkX = minX >> 4;
+        int minChunkZ = minZ >> 4;
+        int chunksX = ((minX + areaSize - 1) >> 4) - minChunkX + 1;
+        int chunksZ = ((minZ + areaSize - 1) >> 4) - minChunkZ + 1;
+
+        PalettedContainer<BlockState>[] sections = new PalettedContainer[chunksX * chunksZ];
+        boolean[] emptySections = new boolean[chunksX * chunksZ];
+        for (int cz = 0; cz < chunksZ; cz++) {
+            for (int cx = 0; cx < chunksX; cx++) {
+                // Only look at chunks that are already loaded - planning must never load or generate one
+                WorldChunk chunk = world.getChunkManager().getWorldChunk(minChunkX + cx, minChunkZ + cz);
+                if (chunk == null) {
+                    continue;
+                }
+                ChunkSection section = chunk.getSection(chunk.getSectionIndex(y));
+                int slot = cz * chunksX + cx;
+                // With required flags the palette rules out a whole section without looking at its blocks
+                if (section.isEmpty() || (requiredFlags != 0
+                        && !section.hasAny(state -> (BlockClassifier.get(state) & requiredFlags) == requiredFlags))) {
+                    emptySections[slot] = true;
+                } else {
+                    sections[slot] = section.getBlockStateContainer().copy();
+                }
+            }
+        }
+        return new Snapshot(minX, minZ, y, areaSize, minChunkX, minChunkZ, chunksX, sections, emptySections, requiredFlags);
+    }
+
+    /**
+     * Runs on a worker thread - only touches the snapshot and immutable block state data
+     */
+    private static Plan plan(Snapshot snapshot, int depth) {
+        int size = snapshot.areaSize();
+        BitSet candidates = new BitSet(size * size);
+        int localY = snapshot.y() & 15;
+
+        for (int index = 0; index < size * size; index++) {
+            int x = snapshot.minX() + index % size;
+            int z = snapshot.minZ() + index / size;
+            int slot = ((z >> 4) - snapshot.minChunkZ()) * snapshot.chunksX() + ((x >> 4) - snapshot.minChunkX());
+
+            if (snapshot.emptySections()[slot]) {
+                continue;
+            }
+            PalettedContainer<BlockState> section = snapshot.sections()[slot];
+            if (section == null) {
+                candidates.set(index); // Unknown - let the live check decide
+                continue;
+            }
+
+            BlockState state = section.get(x & 15, localY, z & 15);
+            int flags = BlockClassifier.get(state);
+            if ((flags & BlockClassifier.SKIP) == 0 && (flags & snapshot.requiredFlags()) == snapshot.requiredFlags()) {
+                candidates.set(index);
+            }
+        }
+        return new Plan(depth, size, candidates);
+    }
+}
@@ -0,0 +1,50 @@
+package com.simplequarries.mining;
+
+import com.simplequarries.api.QuarryBatch;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+
+import java.util.BitSet;
+
+/**
+ * Targets collected for one mining batch, and the vetoes listeners put on them.
+ * Reused between batches like {@link DropAccumulator}.
+ */
+public final class MiningBatch implements QuarryBatch {
+    private final LongArrayList positions = new LongArrayList();
+    private final BitSet vetoed = new BitSet();
+
+    public void add(long pos) {
+        positions.add(pos);
+    }
+
+    @Override
+    public int size() {
+        return positions.size();
+    }
+
+    public boolean isEmpty() {
+        return positions.isEmpty();
+    }
+
+    @Override
+    public long getPackedPos(int index) {
+        return positions.getLong(index);
+    }
+
+    @Override
+    public void veto(int index) {
+        if (index >= 0 && index < positions.size()) {
+            vetoed.set(index);
+        }
+    }
+
+    @Override
+    public boolean isVetoed(int index) {
+        return vetoed.get(index);
+    }
+
+    public void clear() {
+        positions.clear();
+        vetoed.clear();
+    }
+}
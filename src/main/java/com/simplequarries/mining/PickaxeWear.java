@@ -0,0 +1,73 @@
+package com.simplequarries.mining;
+
+import net.minecraft.util.math.random.Random;
+
+/**
+ * Durability maths for applying a whole batch of mined blocks to a pickaxe at once.
+ *
+ * Each mined block damages the pickaxe with probability 1 / (Unbreaking + 1), so the
+ * damage for a batch of n blocks is Binomial(n, p). Batches are never larger than the
+ * pickaxe's remaining durability, which means the damage can only reach the breaking
+ * point on the last block of a batch - exactly where per-block rolls would have broken it.
+ */
+public final class PickaxeWear {
+    // Below this many trials plain Bernoulli rolls are cheaper than inversion
+    private static final int DIRECT_TRIALS = 16;
+
+    private PickaxeWear() {}
+
+    /**
+     * Chance that a single mined block costs one point of durability
+     */
+    public static double damageChance(int unbreakingLevel) {
+        return 1.0 / (Math.max(0, unbreakingLevel) + 1);
+    }
+
+    /**
+     * Most blocks a single batch may mine with this much durability left
+     */
+    public static int batchLimit(int requested, int remainingDurability) {
+        return Math.max(0, Math.min(requested, remainingDurability));
+    }
+
+    /**
+     * Draw the number of damage events for {@code trials} mined blocks
+     */
+    public static int binomial(Random random, int trials, double p) {
+        if (trials <= 0 || p <= 0.0) {
+            return 0;
+        }
+        if (p >= 1.0) {
+            return trials;
+        }
+
+        if (trials <= DIRECT_TRIALS) {
+            int successes = 0;
+            for (int i = 0; i < trials; i++) {
+                if (random.nextDouble() < p) {
+                    successes++;
+                }
+            }
+            return successes;
+        }
+
+        double q = 1.0 - p;
+        double probability = Math.pow(q, trials);
+        if (probability < Double.MIN_NORMAL) {
+            // P(0) underflows for very large batches - split them, the sum of binomials is still binomial
+            int half = trials / 2;
+            return binomial(random, half, p) + binomial(random, trials - half, p);
+        }
+
+        // Inversion: walk the CDF upwards from zero successes, expected steps ~ trials * p
+        double ratio = p / q;
+        double u = random.nextDouble();
+        int successes = 0;
+        while (u > probability && successes < trials) {
+            u -= probability;
+            probability *= ratio * (trials - successes) / (successes + 1);
+            successes++;
+        }
+        return successes;
+    }
+}
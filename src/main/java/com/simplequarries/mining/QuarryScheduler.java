@@ -0,0 +1,109 @@
+package com.simplequarries.mining;
+
+import com.simplequarries.block.entity.QuarryBlockEntity;
+import com.simplequarries.config.QuarryConfig;
+import com.simplequarries.world.QuarryIndex;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.world.ServerWorld;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Shares a per-tick time budget between all quarries on the server.
+ *
+ * Once the quarries mining in a tick have used up {@link QuarryConfig#schedulerBudgetMicros},
+ * the rest wait for the next tick with their progress kept. A quarry that has been
+ * passed over for {@link #MAX_STARVED_TICKS} ticks in a row runs anyway, so the ones
+ * ticked last in a tick can't be starved forever.
+ *
+ * On top of that, the average tick time is checked once a second. While it is above
+ * {@link QuarryConfig#throttleMspt} the share of quarries allowed to mine shrinks step by
+ * step, and once it drops below {@link QuarryConfig#recoverMspt} the share grows back
+ * until every quarry runs at full speed again. Quarries whose owner is online go first,
+ * then smaller areas; the rest show as throttled in their GUI.
+ */
+public final class QuarryScheduler {
+    private static final int MAX_STARVED_TICKS = 20;
+    private static final int REBALANCE_INTERVAL = 20;
+    private static final double SCALE_DOWN = 0.75;
+    private static final double SCALE_UP = 1.25;
+
+    private static long spentNanos = 0;
+    private static double activeShare = 1.0;  // Fraction of quarries allowed to mine, 1 when not throttling
+
+    private QuarryScheduler() {}
+
+    public static void register() {
+        ServerTickEvents.START_SERVER_TICK.register(server -> {
+            spentNanos = 0;
+            if (server.getTicks() % REBALANCE_INTERVAL == 0) {
+                rebalance(server);
+            }
+        });
+    }
+
+    /**
+     * Whether a quarry that has already waited {@code starvedTicks} ticks may mine now
+     */
+    public static boolean hasBudget(int starvedTicks) {
+        long budget = QuarryConfig.get().schedulerBudgetMicros * 1000L;
+        return budget <= 0 || spentNanos < budget || starvedTicks >= MAX_STARVED_TICKS;
+    }
+
+    public static void record(long nanos) {
+        spentNanos += nanos;
+    }
+
+    public static boolean isThrottling() {
+        return activeShare < 1.0;
+    }
+
+    private static void rebalance(MinecraftServer server) {
+        QuarryConfig config = QuarryConfig.get();
+        boolean wasThrottling = isThrottling();
+
+        if (config.throttleMspt <= 0) {
+            activeShare = 1.0;
+        } else {
+            double mspt = server.getAverageTickTime();
+            if (mspt > config.throttleMspt) {
+                activeShare = Math.max(config.minThrottleShare, activeShare * SCALE_DOWN);
+            } else if (mspt < config.recoverMspt) {
+                activeShare = Math.min(1.0, activeShare * SCALE_UP);
+            }
+        }
+
+        if (!isThrottling()) {
+            if (wasThrottling) {
+                forEachQuarry(server, quarry -> quarry.setThrottled(false));
+            }
+            return;
+        }
+
+        List<QuarryBlockEntity> quarries = new ArrayList<>();
+        forEachQuarry(server, quarries::add);
+        quarries.sort(Comparator
+                .comparing((QuarryBlockEntity quarry) -> !isOwnerOnline(server, quarry.getOwner()))
+                .thenComparingInt(QuarryBlockEntity::getMiningAreaSize));
+
+        int allowed = (int) Math.ceil(quarries.size() * activeShare);
+        for (int i = 0; i < quarries.size(); i++) {
+            quarries.get(i).setThrottled(i >= allowed);
+        }
+    }
+
+    private static void forEachQuarry(MinecraftServer server, Consumer<QuarryBlockEntity> action) {
+        for (ServerWorld world : server.getWorlds()) {
+            QuarryIndex.get(world).all().forEach(action);
+        }
+    }
+
+    private static boolean isOwnerOnline(MinecraftServer server, UUID owner) {
+        return owner != null && server.getPlayerManager().getPlayer(owner) != null;
+    }
+}
@@ -0,0 +1,93 @@
+package com.simplequarries.mining;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+
+import java.util.List;
+
+/**
+ * Inserting drops into a range of inventory slots, shared by the quarry's own output
+ * slots and the controller's storage.
+ *
+ * Existing stacks are topped up first, then empty slots are filled. Callers are
+ * responsible for marking their inventory dirty when something moved.
+ */
+public final class SlotInsertion {
+    private SlotInsertion() {}
+
+    /**
+     * Insert {@code count} plain (component-less) items
+     *
+     * @return how many didn't fit
+     */
+    public static int insert(List<ItemStack> slots, int start, int end, int maxCountPerStack, Item item, int count) {
+        int maxCount = Math.min(maxCountPerStack, item.getMaxCount());
+        int left = count;
+
+        for (int i = start; i < end && left > 0; i++) {
+            ItemStack existing = slots.get(i);
+            if (!existing.isEmpty() && existing.isOf(item) && existing.getComponentChanges().isEmpty()) {
+                int transferable = Math.min(left, maxCount - existing.getCount());
+                if (transferable > 0) {
+                    existing.increment(transferable);
+                    left -= transferable;
+                }
+            }
+        }
+
+        for (int i = start; i < end && left > 0; i++) {
+            if (slots.get(i).isEmpty()) {
+                int placed = Math.min(left, maxCount);
+                slots.set(i, new ItemStack(item, placed));
+                left -= placed;
+            }
+        }
+        return left;
+    }
+
+    /**
+     * Insert a stack the caller owns. It may end up in a slot as-is, so it must not be used afterwards.
+     *
+     * @return what didn't fit, or {@link ItemStack#EMPTY}
+     */
+    public static ItemStack insert(List<ItemStack> slots, int start, int end, int maxCountPerStack, ItemStack stack) {
+        if (stack.isEmpty()) {
+            return ItemStack.EMPTY;
+        }
+
+        for (int i = start; i < end; i++) {
+            ItemStack existing = slots.get(i);
+            if (!existing.isEmpty() && ItemStack.areItemsAndComponentsEqual(existing, stack)) {
+                int transferable = Math.min(stack.getCount(),
+                        Math.min(maxCountPerStack, existing.getMaxCount()) - existing.getCount());
+                if (transferable > 0) {
+                    existing.increment(transferable);
+                    stack.decrement(transferable);
+                    if (stack.isEmpty()) {
+                        return ItemStack.EMPTY;
+                    }
+                }
+            }
+        }
+
+        for (int i = start; i < end; i++) {
+            if (slots.get(i).isEmpty()) {
+                slots.set(i, stack);
+                return ItemStack.EMPTY;
+            }
+        }
+        return stack;
+    }
+
+    /**
+     * Items that still fit into the slots, counting empty slots as full stacks
+     */
+    public static int freeCapacity(List<ItemStack> slots, int start, int end, int maxCountPerStack) {
+        int capacity = 0;
+        for (int i = start; i < end; i++) {
+            ItemStack stack = slots.get(i);
+            capacity += stack.isEmpty() ? maxCountPerStack : Math.max(0, stack.getMaxCount() - stack.getCount());
+        }
+        return capacity;
+    }
+}
@@ -0,0 +1,30 @@
+package com.simplequarries.network;
+
+import com.simplequarries.SimpleQuarries;
+import net.minecraft.item.Item;
+import net.minecraft.network.RegistryByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.codec.PacketCodecs;
+import net.minecraft.network.packet.CustomPayload;
+import net.minecraft.registry.RegistryKeys;
+import net.minecraft.util.Identifier;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Server -> client: the resolved quarry fuel table
+ */
+public record QuarryFuelsPayload(Map<Item, Integer> values) implements CustomPayload {
+    public static final Id<QuarryFuelsPayload> ID = new Id<>(Identifier.of(SimpleQuarries.MOD_ID, "quarry_fuels"));
+    public static final PacketCodec<RegistryByteBuf, QuarryFuelsPayload> CODEC = PacketCodecs.<RegistryByteBuf, Item, Integer, Map<Item, Integer>>map(
+            HashMap::new,
+            PacketCodecs.registryValue(RegistryKeys.ITEM),
+            PacketCodecs.VAR_INT
+    ).xmap(QuarryFuelsPayload::new, QuarryFuelsPayload::values);
+
+    @Override
+    public Id<? extends CustomPayload> getId() {
+        return ID;
+    }
+}
@@ -0,0 +1,16 @@
+package com.simplequarries.network;
+
+import net.fabricmc.fabric.api.networking.v1.PayloadTypeRegistry;
+
+public final class QuarryNetworking {
+    private QuarryNetworking() {}
+
+    public static void register() {
+        PayloadTypeRegistry.playS2C().register(QuarryFuelsPayload.ID, QuarryFuelsPayload.CODEC);
+        PayloadTypeRegistry.playS2C().register(QuarryOverlayPayload.ID, QuarryOverlayPayload.CODEC);
+        PayloadTypeRegistry.playC2S().register(QuarryOverlayTogglePayload.ID, QuarryOverlayTogglePayload.CODEC);
+        PayloadTypeRegistry.playS2C().register(QuarryStatusPayload.ID, QuarryStatusPayload.CODEC);
+        PayloadTypeRegistry.playC2S().register(QuarryTerminalClosePayload.ID, QuarryTerminalClosePayload.CODEC);
+        QuarryOverlaySync.register();
+    }
+}
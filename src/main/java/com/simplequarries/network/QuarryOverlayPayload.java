@@ -0,0 +1,45 @@
+package com.simplequarries.network;
+
+import com.simplequarries.SimpleQuarries;
+import com.simplequarries.block.entity.QuarryBlockEntity;
+import net.minecraft.network.RegistryByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.codec.PacketCodecs;
+import net.minecraft.network.packet.CustomPayload;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * Server -> client: area, current layer and scan cursor of one quarry for the overlay.
+ * A size of 0 means the quarry should be dropped from the overlay.
+ */
+public record QuarryOverlayPayload(BlockPos quarry, int minX, int minZ, int size, int layerY, BlockPos target) implements CustomPayload {
+    public static final Id<QuarryOverlayPayload> ID = new Id<>(Identifier.of(SimpleQuarries.MOD_ID, "quarry_overlay"));
+    public static final PacketCodec<RegistryByteBuf, QuarryOverlayPayload> CODEC = PacketCodec.tuple(
+            BlockPos.PACKET_CODEC, QuarryOverlayPayload::quarry,
+            PacketCodecs.VAR_INT, QuarryOverlayPayload::minX,
+            PacketCodecs.VAR_INT, QuarryOverlayPayload::minZ,
+            PacketCodecs.VAR_INT, QuarryOverlayPayload::size,
+            PacketCodecs.VAR_INT, QuarryOverlayPayload::layerY,
+            BlockPos.PACKET_CODEC, QuarryOverlayPayload::target,
+            QuarryOverlayPayload::new
+    );
+
+    public static QuarryOverlayPayload of(QuarryBlockEntity quarry) {
+        return new QuarryOverlayPayload(quarry.getPos(), quarry.getAreaMinX(), quarry.getAreaMinZ(),
+                quarry.getMiningAreaSize(), quarry.getCurrentLayerY(), quarry.getCursorPos());
+    }
+
+    public static QuarryOverlayPayload removed(BlockPos quarry) {
+        return new QuarryOverlayPayload(quarry, 0, 0, 0, 0, quarry);
+    }
+
+    public boolean isRemoval() {
+        return size <= 0;
+    }
+
+    @Override
+    public Id<? extends CustomPayload> getId() {
+        return ID;
+    }
+}
@@ -0,0 +1,80 @@
+package com.simplequarries.network;
+
+import com.simplequarries.world.QuarryIndex;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.util.math.BlockPos;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Sends overlay data to players who turned the overlay on.
+ *
+ * Every {@link #INTERVAL} ticks the quarries around each subscribed player are compared
+ * with what that player was last sent, and only the ones that changed go out. Quarries
+ * that were removed or are now out of range get a removal payload.
+ */
+public final class QuarryOverlaySync {
+    private static final int INTERVAL = 10;
+    private static final int RANGE = 96;
+
+    // Player -> last payload sent per quarry position
+    private static final Map<UUID, Map<BlockPos, QuarryOverlayPayload>> SUBSCRIBERS = new HashMap<>();
+
+    private QuarryOverlaySync() {}
+
+    public static void register() {
+        ServerPlayNetworking.registerGlobalReceiver(QuarryOverlayTogglePayload.ID, (payload, context) -> {
+            UUID id = context.player().getUuid();
+            if (payload.enabled()) {
+                SUBSCRIBERS.putIfAbsent(id, new HashMap<>());
+            } else {
+                SUBSCRIBERS.remove(id);
+            }
+        });
+        ServerPlayConnectionEvents.DISCONNECT.register((handler, server) -> SUBSCRIBERS.remove(handler.getPlayer().getUuid()));
+        ServerTickEvents.END_SERVER_TICK.register(server -> {
+            if (!SUBSCRIBERS.isEmpty() && server.getTicks() % INTERVAL == 0) {
+                update(server);
+            }
+        });
+    }
+
+    private static void update(MinecraftServer server) {
+        for (Map.Entry<UUID, Map<BlockPos, QuarryOverlayPayload>> entry : SUBSCRIBERS.entrySet()) {
+            ServerPlayerEntity player = server.getPlayerManager().getPlayer(entry.getKey());
+            if (player != null) {
+                update(player, entry.getValue());
+            }
+        }
+    }
+
+    private static void update(ServerPlayerEntity player, Map<BlockPos, QuarryOverlayPayload> sent) {
+        Set<BlockPos> seen = new HashSet<>();
+        QuarryIndex.get(player.getEntityWorld()).forEachNear(player.getBlockPos(), RANGE, quarry -> {
+            QuarryOverlayPayload payload = QuarryOverlayPayload.of(quarry);
+            seen.add(payload.quarry());
+            if (!payload.equals(sent.get(payload.quarry()))) {
+                sent.put(payload.quarry(), payload);
+                ServerPlayNetworking.send(player, payload);
+            }
+        });
+
+        Iterator<BlockPos> it = sent.keySet().iterator();
+        while (it.hasNext()) {
+            BlockPos pos = it.next();
+            if (!seen.contains(pos)) {
+                it.remove();
+                ServerPlayNetworking.send(player, QuarryOverlayPayload.removed(pos));
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.simplequarries.network;
+
+import com.simplequarries.SimpleQuarries;
+import net.minecraft.network.RegistryByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.codec.PacketCodecs;
+import net.minecraft.network.packet.CustomPayload;
+import net.minecraft.util.Identifier;
+
+/**
+ * Client -> server: start or stop receiving overlay updates for nearby quarries
+ */
+public record QuarryOverlayTogglePayload(boolean enabled) implements CustomPayload {
+    public static final Id<QuarryOverlayTogglePayload> ID = new Id<>(Identifier.of(SimpleQuarries.MOD_ID, "quarry_overlay_toggle"));
+    public static final PacketCodec<RegistryByteBuf, QuarryOverlayTogglePayload> CODEC = PacketCodecs.BOOLEAN
+            .<RegistryByteBuf>cast()
+            .xmap(QuarryOverlayTogglePayload::new, QuarryOverlayTogglePayload::enabled);
+
+    @Override
+    public Id<? extends CustomPayload> getId() {
+        return ID;
+    }
+}
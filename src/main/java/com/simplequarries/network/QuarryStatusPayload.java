@@ -0,0 +1,57 @@
+package com.simplequarries.network;
+
+import com.simplequarries.SimpleQuarries;
+import net.minecraft.network.RegistryByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.codec.PacketCodecs;
+import net.minecraft.network.packet.CustomPayload;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.GlobalPos;
+
+import java.util.List;
+
+/**
+ * Server -> client: status of all of a player's quarries for the terminal screen.
+ * {@code open} is set on the reply to using a terminal, later refreshes only update an open screen.
+ */
+public record QuarryStatusPayload(boolean open, List<Entry> entries) implements CustomPayload {
+    public static final Id<QuarryStatusPayload> ID = new Id<>(Identifier.of(SimpleQuarries.MOD_ID, "quarry_status"));
+    public static final PacketCodec<RegistryByteBuf, QuarryStatusPayload> CODEC = PacketCodec.tuple(
+            PacketCodecs.BOOLEAN, QuarryStatusPayload::open,
+            Entry.CODEC.collect(PacketCodecs.toList()), QuarryStatusPayload::entries,
+            QuarryStatusPayload::new
+    );
+
+    /**
+     * One quarry's last known state. Quarries in unloaded chunks keep the values they had when they unloaded.
+     *
+     * @param fill output fill level, 0 to 100
+     */
+    public record Entry(GlobalPos pos, int status, int layerY, int fuel, int fill, int blocksPerMinute, boolean loaded) {
+        public static final PacketCodec<RegistryByteBuf, Entry> CODEC = PacketCodec.of(Entry::write, Entry::read);
+
+        private static Entry read(RegistryByteBuf buf) {
+            return new Entry(GlobalPos.PACKET_CODEC.decode(buf), buf.readVarInt(), buf.readVarInt(),
+                    buf.readVarInt(), buf.readByte(), buf.readVarInt(), buf.readBoolean());
+        }
+
+        private void write(RegistryByteBuf buf) {
+            GlobalPos.PACKET_CODEC.encode(buf, pos);
+            buf.writeVarInt(status);
+            buf.writeVarInt(layerY);
+            buf.writeVarInt(fuel);
+            buf.writeByte(fill);
+            buf.writeVarInt(blocksPerMinute);
+            buf.writeBoolean(loaded);
+        }
+
+        public Entry unloaded() {
+            return new Entry(pos, status, layerY, fuel, fill, 0, false);
+        }
+    }
+
+    @Override
+    public Id<? extends CustomPayload> getId() {
+        return ID;
+    }
+}
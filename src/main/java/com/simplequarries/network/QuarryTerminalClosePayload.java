@@ -0,0 +1,21 @@
+package com.simplequarries.network;
+
+import com.simplequarries.SimpleQuarries;
+import net.minecraft.network.RegistryByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.packet.CustomPayload;
+import net.minecraft.util.Identifier;
+
+/**
+ * Client -> server: the terminal screen was closed, stop sending status updates
+ */
+public record QuarryTerminalClosePayload() implements CustomPayload {
+    public static final QuarryTerminalClosePayload INSTANCE = new QuarryTerminalClosePayload();
+    public static final Id<QuarryTerminalClosePayload> ID = new Id<>(Identifier.of(SimpleQuarries.MOD_ID, "quarry_terminal_close"));
+    public static final PacketCodec<RegistryByteBuf, QuarryTerminalClosePayload> CODEC = PacketCodec.unit(INSTANCE);
+
+    @Override
+    public Id<? extends CustomPayload> getId() {
+        return ID;
+    }
+}
@@ -2,6 +2,8 @@ package com.simplequarries.recipe;
 
 import com.simplequarries.QuarryUpgrades;
 import com.simplequarries.SimpleQuarries;
+import com.simplequarries.component.QuarryComponents;
+import com.simplequarries.component.QuarryUpgradesComponent;
 import com.simplequarries.item.QuarryBlockItem;
 import net.minecraft.item.ItemStack;
 import net.minecraft.recipe.Ingredient;
@@ -69,8 +71,8 @@ public class QuarryUpgradeRecipe extends SpecialCraftingRecipe {
 
         ItemStack result = quarryStack.copy();
         result.setCount(1);
-        int upgradedCount = QuarryBlockItem.getUpgradeCount(quarryStack) + 1;
-        QuarryBlockItem.setUpgradeCount(result, upgradedCount);
+        QuarryUpgradesComponent upgrades = QuarryBlockItem.getUpgrades(quarryStack);
+        result.set(QuarryComponents.QUARRY_UPGRADES, upgrades.withArea(upgrades.area() + 1));
         return result;
     }
 
@@ -39,7 +39,7 @@ public class QuarryScreenHandler extends ScreenHandler {
      * Client-side constructor
      */
     public QuarryScreenHandler(int syncId, PlayerInventory playerInventory, QuarryScreenData data) {
-        this(syncId, playerInventory, getBlockEntity(playerInventory, data.pos()), new ArrayPropertyDelegate(6));
+        this(syncId, playerInventory, getBlockEntity(playerInventory, data.pos()), new ArrayPropertyDelegate(9));
     }
 
     /**
@@ -86,7 +86,7 @@ public class QuarryScreenHandler extends ScreenHandler {
         }
 
         // Player inventory (3 rows x 9 cols)
-        int playerInvY = 158;
+        int playerInvY = 170;
         for (int row = 0; row < 3; row++) {
             for (int col = 0; col < 9; col++) {
                 this.addSlot(new Slot(playerInventory, col + row * 9 + 9, 8 + col * 18, playerInvY + row * 18));
@@ -94,7 +94,7 @@ public class QuarryScreenHandler extends ScreenHandler {
         }
 
         // Player hotbar
-        int hotbarY = 220;
+        int hotbarY = 232;
         for (int col = 0; col < 9; col++) {
             this.addSlot(new Slot(playerInventory, col, 8 + col * 18, hotbarY));
         }
@@ -166,7 +166,7 @@ public class QuarryScreenHandler extends ScreenHandler {
     }
 
     /**
-     * Handle button clicks from the client (filter mode toggle, chunk loader toggle)
+     * Handle button clicks from the client (filter mode toggle, fluid policy toggle, chunk loader toggle)
      */
     @Override
     public boolean onButtonClick(PlayerEntity player, int id) {
@@ -175,6 +175,21 @@ public class QuarryScreenHandler extends ScreenHandler {
             blockEntity.cycleFilterMode();
             return true;
         }
+        if (id == 1) {
+            // Cycle fluid policy: skip -> drain -> seal -> skip
+            blockEntity.cycleFluidPolicy();
+            return true;
+        }
+        if (id == 2) {
+            // Toggle chunk loading: forced <-> catch up on reload
+            blockEntity.toggleChunkLoading();
+            return true;
+        }
+        if (id == 3) {
+            // Cycle area mode: centered square -> the quarry's chunk -> large chunk grid
+            blockEntity.cycleAreaMode();
+            return true;
+        }
         return false;
     }
 
@@ -200,10 +215,22 @@ public class QuarryScreenHandler extends ScreenHandler {
         return propertyDelegate.get(4);
     }
 
+    public int getFluidPolicy() {
+        return propertyDelegate.get(6);
+    }
+
     public boolean isChunkLoaderEnabled() {
         return propertyDelegate.get(5) != 0;
     }
 
+    public int getStatus() {
+        return propertyDelegate.get(7);
+    }
+
+    public int getAreaMode() {
+        return propertyDelegate.get(8);
+    }
+
     public int getScaledFuelProgress() {
         int burnTime = getBurnTime();
         int lastFuel = getLastFuelTime();
@@ -243,6 +270,7 @@ public class QuarryScreenHandler extends ScreenHandler {
         return switch (getFilterMode()) {
             case QuarryBlockEntity.FILTER_WHITELIST -> "Whitelist";
             case QuarryBlockEntity.FILTER_BLACKLIST -> "Blacklist";
+            case QuarryBlockEntity.FILTER_ORES -> "Ores only";
             default -> "Off";
         };
     }
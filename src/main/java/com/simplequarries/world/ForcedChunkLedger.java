@@ -0,0 +1,187 @@
+package com.simplequarries.world;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import com.simplequarries.SimpleQuarries;
+import com.simplequarries.block.entity.QuarryBlockEntity;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerBlockEntityEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.PersistentState;
+import net.minecraft.world.PersistentStateType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-world record of every chunk quarries force, saved with the world.
+ *
+ * All quarry chunk forcing goes through here. Chunks are reference counted, so two
+ * quarries forcing the same chunk don't unforce it for each other, and a chunk that
+ * was already forced by something else (e.g. {@code /forceload}) is never unforced.
+ *
+ * Shortly after the server starts, the ledger is checked against the quarries that
+ * actually loaded: a quarry always forces its own chunk while it forces anything, so an
+ * entry whose quarry isn't there (removed while unloaded, or a crash before it saved)
+ * is stale and its chunks are released.
+ */
+public final class ForcedChunkLedger extends PersistentState {
+    private static final int RECONCILE_DELAY = 100;  // Ticks after startup for forced chunks to load
+
+    private record Entry(long quarry, List<Long> chunks) {
+        static final Codec<Entry> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+                Codec.LONG.fieldOf("quarry").forGetter(Entry::quarry),
+                Codec.LONG.listOf().fieldOf("chunks").forGetter(Entry::chunks)
+        ).apply(instance, Entry::new));
+    }
+
+    private static final Codec<ForcedChunkLedger> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+            Entry.CODEC.listOf().fieldOf("quarries").forGetter(ForcedChunkLedger::toEntries),
+            Codec.LONG.listOf().optionalFieldOf("external", List.of()).forGetter(ledger -> new ArrayList<>(ledger.external))
+    ).apply(instance, ForcedChunkLedger::new));
+
+    private static final PersistentStateType<ForcedChunkLedger> TYPE = new PersistentStateType<>(
+            SimpleQuarries.MOD_ID + "_forced_chunks", ForcedChunkLedger::new, CODEC, null);
+
+    private static int reconcileAt = -1;
+
+    private final Long2ObjectMap<LongSet> byQuarry = new Long2ObjectOpenHashMap<>();
+    private final Long2IntOpenHashMap references = new Long2IntOpenHashMap();
+    private final LongSet external = new LongOpenHashSet();  // Forced by someone else before a quarry needed them
+
+    private ForcedChunkLedger() {}
+
+    private ForcedChunkLedger(List<Entry> entries, List<Long> external) {
+        for (Entry entry : entries) {
+            for (long chunk : entry.chunks()) {
+                add(entry.quarry(), chunk);
+            }
+        }
+        this.external.addAll(external);
+    }
+
+    public static void register() {
+        // Quarries saved before the ledger existed still know what they forced
+        ServerBlockEntityEvents.BLOCK_ENTITY_LOAD.register((blockEntity, world) -> {
+            if (blockEntity instanceof QuarryBlockEntity quarry) {
+                get(world).adopt(quarry.getPos(), quarry.getForcedChunks());
+            }
+        });
+        ServerLifecycleEvents.SERVER_STARTED.register(server -> reconcileAt = server.getTicks() + RECONCILE_DELAY);
+        ServerTickEvents.END_SERVER_TICK.register(server -> {
+            if (reconcileAt >= 0 && server.getTicks() >= reconcileAt) {
+                reconcileAt = -1;
+                for (ServerWorld world : server.getWorlds()) {
+                    get(world).reconcile(world);
+                }
+            }
+        });
+    }
+
+    public static ForcedChunkLedger get(ServerWorld world) {
+        return world.getPersistentStateManager().getOrCreate(TYPE);
+    }
+
+    /**
+     * Force a chunk on behalf of a quarry
+     */
+    public void force(ServerWorld world, BlockPos quarry, long chunk) {
+        if (references.get(chunk) == 0 && world.getForcedChunks().contains(chunk)) {
+            external.add(chunk);
+        }
+        if (add(quarry.asLong(), chunk)) {
+            world.setChunkForced(ChunkPos.getPackedX(chunk), ChunkPos.getPackedZ(chunk), true);
+            markDirty();
+        }
+    }
+
+    /**
+     * Stop forcing a chunk for a quarry. The chunk is only unforced once no quarry needs it
+     * and nothing else had forced it.
+     */
+    public void release(ServerWorld world, BlockPos quarry, long chunk) {
+        release(world, quarry.asLong(), chunk);
+    }
+
+    /**
+     * Release everything a quarry forced
+     */
+    public void releaseAll(ServerWorld world, BlockPos quarry) {
+        LongSet chunks = byQuarry.get(quarry.asLong());
+        if (chunks != null) {
+            for (long chunk : new LongArrayList(chunks)) {
+                release(world, quarry.asLong(), chunk);
+            }
+        }
+    }
+
+    private void adopt(BlockPos quarry, LongSet chunks) {
+        boolean changed = false;
+        for (long chunk : chunks) {
+            changed |= add(quarry.asLong(), chunk);
+        }
+        if (changed) {
+            markDirty();
+        }
+    }
+
+    private void reconcile(ServerWorld world) {
+        QuarryIndex quarries = QuarryIndex.get(world);
+        int released = 0;
+        for (long key : new LongArrayList(byQuarry.keySet())) {
+            QuarryBlockEntity quarry = quarries.get(BlockPos.fromLong(key));
+            LongSet chunks = byQuarry.get(key);
+            for (long chunk : new LongArrayList(chunks)) {
+                if (quarry == null || !quarry.getForcedChunks().contains(chunk)) {
+                    release(world, key, chunk);
+                    released++;
+                }
+            }
+        }
+        if (released > 0) {
+            SimpleQuarries.LOGGER.info("Released {} stale quarry chunk forces in {}", released, world.getRegistryKey().getValue());
+        }
+    }
+
+    private boolean add(long quarry, long chunk) {
+        if (!byQuarry.computeIfAbsent(quarry, k -> new LongOpenHashSet()).add(chunk)) {
+            return false;
+        }
+        references.addTo(chunk, 1);
+        return true;
+    }
+
+    private void release(ServerWorld world, long quarry, long chunk) {
+        LongSet chunks = byQuarry.get(quarry);
+        if (chunks == null || !chunks.remove(chunk)) {
+            return;
+        }
+        if (chunks.isEmpty()) {
+            byQuarry.remove(quarry);
+        }
+        if (references.addTo(chunk, -1) <= 1) {
+            references.remove(chunk);
+            if (!external.remove(chunk)) {
+                world.setChunkForced(ChunkPos.getPackedX(chunk), ChunkPos.getPackedZ(chunk), false);
+            }
+        }
+        markDirty();
+    }
+
+    private List<Entry> toEntries() {
+        List<Entry> entries = new ArrayList<>();
+        for (Long2ObjectMap.Entry<LongSet> entry : byQuarry.long2ObjectEntrySet()) {
+            entries.add(new Entry(entry.getLongKey(), new ArrayList<>(entry.getValue())));
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,182 @@
+package com.simplequarries.world;
+
+import com.simplequarries.block.entity.QuarryBlockEntity;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerBlockEntityEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-world registry of the columns each quarry mines.
+ *
+ * Columns covered by a single quarry aren't stored at all. Columns shared by
+ * overlapping quarries are split between them: each shared column belongs to the
+ * quarry whose center is closest (ties go to the lower position), which doesn't
+ * depend on the order quarries were placed or loaded in. A quarry skips columns
+ * owned by another quarry without reading the block there.
+ *
+ * Only quarries that are mining hold a claim, so an idle or unloaded quarry never keeps
+ * columns from its neighbours. When a claim is released, the quarries that take over its
+ * columns have already passed them, so each one is handed the columns it gained - packed
+ * with the Y of the releasing quarry's layer, below which nothing was mined - to go back for.
+ */
+public final class QuarryAreaClaims {
+    private static final long NO_OWNER = Long.MIN_VALUE;
+    private static final Map<ServerWorld, QuarryAreaClaims> CLAIMS = new IdentityHashMap<>();
+
+    private record Area(long quarry, int minX, int minZ, int size) {
+        boolean contains(int x, int z) {
+            return x >= minX && x < minX + size && z >= minZ && z < minZ + size;
+        }
+
+        boolean overlaps(Area other) {
+            return minX < other.minX + other.size && other.minX < minX + size
+                    && minZ < other.minZ + other.size && other.minZ < minZ + size;
+        }
+
+        long distanceSq(int x, int z) {
+            // Doubled center so even-sized areas stay on the integer grid
+            long dx = 2L * x + 1 - (2L * minX + size);
+            long dz = 2L * z + 1 - (2L * minZ + size);
+            return dx * dx + dz * dz;
+        }
+    }
+
+    private final Long2ObjectMap<Area> areas = new Long2ObjectOpenHashMap<>();
+    private final Long2LongOpenHashMap sharedOwners = new Long2LongOpenHashMap();
+    private final Long2ObjectMap<LongList> handedOver = new Long2ObjectOpenHashMap<>();
+
+    private QuarryAreaClaims() {
+        sharedOwners.defaultReturnValue(NO_OWNER);
+    }
+
+    public static void register() {
+        // Quarries claim their area on their first mining tick
+        ServerBlockEntityEvents.BLOCK_ENTITY_UNLOAD.register((blockEntity, world) -> {
+            if (blockEntity instanceof QuarryBlockEntity quarry) {
+                quarry.releaseAreaClaim(world);
+            }
+        });
+        ServerWorldEvents.UNLOAD.register((server, world) -> CLAIMS.remove(world));
+    }
+
+    public static QuarryAreaClaims get(ServerWorld world) {
+        return CLAIMS.computeIfAbsent(world, w -> new QuarryAreaClaims());
+    }
+
+    /**
+     * Register (or resize) the area mined by a quarry
+     */
+    public void claim(BlockPos quarryPos, int minX, int minZ, int size) {
+        long key = quarryPos.asLong();
+        Area existing = areas.get(key);
+        Area area = new Area(key, minX, minZ, size);
+        if (area.equals(existing)) {
+            return;
+        }
+        if (existing != null) {
+            release(quarryPos, quarryPos.getY());
+        }
+        areas.put(key, area);
+        reassign(area, 0);
+    }
+
+    /**
+     * Give up a quarry's columns; shared columns fall back to the remaining quarries
+     *
+     * @param layerY the layer the quarry was mining, the highest one that may still hold blocks in its columns
+     */
+    public void release(BlockPos quarryPos, int layerY) {
+        long key = quarryPos.asLong();
+        handedOver.remove(key);
+        Area area = areas.remove(key);
+        if (area != null) {
+            reassign(area, layerY);
+        }
+    }
+
+    /**
+     * Columns handed over to a quarry since the last call, packed with {@link BlockPos#asLong}
+     * at the Y from which they have to be mined again, or null if there are none
+     */
+    @Nullable
+    public LongList takeHandedOver(BlockPos quarryPos) {
+        return handedOver.remove(quarryPos.asLong());
+    }
+
+    /**
+     * Whether the column at x/z belongs to a quarry other than the given one
+     */
+    public boolean isForeign(BlockPos quarryPos, int x, int z) {
+        long owner = sharedOwners.get(BlockPos.asLong(x, 0, z));
+        return owner != NO_OWNER && owner != quarryPos.asLong();
+    }
+
+    /**
+     * Recompute ownership of the columns a changed area shares with other quarries.
+     * Columns outside every other area have a single claimant before and after the
+     * change and are never stored, so only the intersections need to be visited.
+     */
+    private void reassign(Area changed, int releasedLayerY) {
+        List<Area> overlapping = new ArrayList<>();
+        for (Area other : areas.values()) {
+            if (other.overlaps(changed)) {
+                overlapping.add(other);
+            }
+        }
+
+        for (Area other : overlapping) {
+            if (other.quarry == changed.quarry) {
+                continue;
+            }
+            int maxX = Math.min(changed.minX + changed.size, other.minX + other.size);
+            int maxZ = Math.min(changed.minZ + changed.size, other.minZ + other.size);
+            for (int x = Math.max(changed.minX, other.minX); x < maxX; x++) {
+                for (int z = Math.max(changed.minZ, other.minZ); z < maxZ; z++) {
+                    assign(x, z, overlapping, changed, releasedLayerY);
+                }
+            }
+        }
+    }
+
+    private void assign(int x, int z, List<Area> overlapping, Area changed, int releasedLayerY) {
+        long column = BlockPos.asLong(x, 0, z);
+        Area owner = null;
+        int claimants = 0;
+        for (Area candidate : overlapping) {
+            if (!candidate.contains(x, z)) {
+                continue;
+            }
+            claimants++;
+            if (owner == null || isCloser(candidate, owner, x, z)) {
+                owner = candidate;
+            }
+        }
+
+        long previous = claimants > 1 ? sharedOwners.put(column, owner.quarry) : sharedOwners.remove(column);
+        // The new owner skipped this column while the released quarry owned it
+        if (previous == changed.quarry && owner != null && !areas.containsKey(changed.quarry)) {
+            handedOver.computeIfAbsent(owner.quarry, k -> new LongArrayList()).add(BlockPos.asLong(x, releasedLayerY, z));
+        }
+    }
+
+    private static boolean isCloser(Area candidate, Area current, int x, int z) {
+        long candidateDistance = candidate.distanceSq(x, z);
+        long currentDistance = current.distanceSq(x, z);
+        if (candidateDistance != currentDistance) {
+            return candidateDistance < currentDistance;
+        }
+        return candidate.quarry < current.quarry;
+    }
+}
@@ -0,0 +1,76 @@
+package com.simplequarries.world;
+
+import com.simplequarries.block.entity.QuarryControllerBlockEntity;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerBlockEntityEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Per-world index of loaded quarry controllers, kept the same way as {@link QuarryIndex}.
+ *
+ * An outpost has a handful of controllers at most, so finding the nearest one is a
+ * plain loop. Only loaded controllers are listed, so a quarry never loads a chunk
+ * to reach its controller.
+ */
+public final class QuarryControllerIndex {
+    private static final Map<ServerWorld, QuarryControllerIndex> INDICES = new IdentityHashMap<>();
+
+    private final Long2ObjectMap<QuarryControllerBlockEntity> byPos = new Long2ObjectOpenHashMap<>();
+
+    private QuarryControllerIndex() {}
+
+    public static void register() {
+        ServerBlockEntityEvents.BLOCK_ENTITY_LOAD.register((blockEntity, world) -> {
+            if (blockEntity instanceof QuarryControllerBlockEntity controller) {
+                get(world).byPos.put(controller.getPos().asLong(), controller);
+            }
+        });
+        ServerBlockEntityEvents.BLOCK_ENTITY_UNLOAD.register((blockEntity, world) -> {
+            if (blockEntity instanceof QuarryControllerBlockEntity controller) {
+                get(world).byPos.remove(controller.getPos().asLong(), controller);
+            }
+        });
+        ServerWorldEvents.UNLOAD.register((server, world) -> INDICES.remove(world));
+    }
+
+    public static QuarryControllerIndex get(ServerWorld world) {
+        return INDICES.computeIfAbsent(world, w -> new QuarryControllerIndex());
+    }
+
+    @Nullable
+    public QuarryControllerBlockEntity get(BlockPos pos) {
+        QuarryControllerBlockEntity controller = byPos.get(pos.asLong());
+        return controller != null && !controller.isRemoved() ? controller : null;
+    }
+
+    /**
+     * The closest loaded controller within a cubic radius, or null
+     */
+    @Nullable
+    public BlockPos findNearest(BlockPos pos, int radius) {
+        BlockPos nearest = null;
+        long nearestDistance = Long.MAX_VALUE;
+        for (QuarryControllerBlockEntity controller : byPos.values()) {
+            BlockPos other = controller.getPos();
+            int dx = Math.abs(other.getX() - pos.getX());
+            int dy = Math.abs(other.getY() - pos.getY());
+            int dz = Math.abs(other.getZ() - pos.getZ());
+            if (dx > radius || dy > radius || dz > radius || controller.isRemoved()) {
+                continue;
+            }
+            long distance = (long) dx * dx + (long) dy * dy + (long) dz * dz;
+            if (distance < nearestDistance) {
+                nearestDistance = distance;
+                nearest = other;
+            }
+        }
+        return nearest;
+    }
+}
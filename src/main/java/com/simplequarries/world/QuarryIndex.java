@@ -0,0 +1,129 @@
+package com.simplequarries.world;
+
+import com.simplequarries.block.entity.QuarryBlockEntity;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerBlockEntityEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Per-world index of loaded quarries.
+ *
+ * Quarries are keyed by {@link BlockPos#asLong()} and grouped by chunk, so finding
+ * the quarry at a position or the quarries near a point never has to go through
+ * the world's block entities. The index follows the Fabric block entity
+ * load/unload events, which cover chunk loading, placement and removal alike.
+ */
+public final class QuarryIndex {
+    private static final Map<ServerWorld, QuarryIndex> INDICES = new IdentityHashMap<>();
+
+    private final Long2ObjectMap<QuarryBlockEntity> byPos = new Long2ObjectOpenHashMap<>();
+    private final Long2ObjectMap<List<QuarryBlockEntity>> byChunk = new Long2ObjectOpenHashMap<>();
+
+    private QuarryIndex() {}
+
+    public static void register() {
+        ServerBlockEntityEvents.BLOCK_ENTITY_LOAD.register((blockEntity, world) -> {
+            if (blockEntity instanceof QuarryBlockEntity quarry) {
+                get(world).add(quarry);
+            }
+        });
+        ServerBlockEntityEvents.BLOCK_ENTITY_UNLOAD.register((blockEntity, world) -> {
+            if (blockEntity instanceof QuarryBlockEntity quarry) {
+                get(world).remove(quarry);
+            }
+        });
+        ServerWorldEvents.UNLOAD.register((server, world) -> INDICES.remove(world));
+    }
+
+    public static QuarryIndex get(ServerWorld world) {
+        return INDICES.computeIfAbsent(world, w -> new QuarryIndex());
+    }
+
+    private void add(QuarryBlockEntity quarry) {
+        long key = quarry.getPos().asLong();
+        QuarryBlockEntity previous = byPos.put(key, quarry);
+        List<QuarryBlockEntity> chunk = byChunk.computeIfAbsent(ChunkPos.toLong(quarry.getPos()), k -> new ObjectArrayList<>(2));
+        if (previous != null) {
+            chunk.remove(previous);
+        }
+        chunk.add(quarry);
+    }
+
+    private void remove(QuarryBlockEntity quarry) {
+        long key = quarry.getPos().asLong();
+        // Only drop the entry if it still points at this block entity (a replacement may already be loaded)
+        if (!byPos.remove(key, quarry)) {
+            return;
+        }
+        long chunkKey = ChunkPos.toLong(quarry.getPos());
+        List<QuarryBlockEntity> chunk = byChunk.get(chunkKey);
+        if (chunk != null) {
+            chunk.remove(quarry);
+            if (chunk.isEmpty()) {
+                byChunk.remove(chunkKey);
+            }
+        }
+    }
+
+    public boolean contains(BlockPos pos) {
+        return byPos.containsKey(pos.asLong());
+    }
+
+    @Nullable
+    public QuarryBlockEntity get(BlockPos pos) {
+        return byPos.get(pos.asLong());
+    }
+
+    /**
+     * Loaded quarries in one chunk
+     */
+    public List<QuarryBlockEntity> inChunk(int chunkX, int chunkZ) {
+        List<QuarryBlockEntity> chunk = byChunk.get(ChunkPos.toLong(chunkX, chunkZ));
+        return chunk != null ? Collections.unmodifiableList(chunk) : List.of();
+    }
+
+    /**
+     * Visit every loaded quarry within a horizontal (square) radius of a point
+     */
+    public void forEachNear(BlockPos center, int radius, Consumer<QuarryBlockEntity> action) {
+        int minChunkX = (center.getX() - radius) >> 4;
+        int maxChunkX = (center.getX() + radius) >> 4;
+        int minChunkZ = (center.getZ() - radius) >> 4;
+        int maxChunkZ = (center.getZ() + radius) >> 4;
+        for (int cx = minChunkX; cx <= maxChunkX; cx++) {
+            for (int cz = minChunkZ; cz <= maxChunkZ; cz++) {
+                List<QuarryBlockEntity> chunk = byChunk.get(ChunkPos.toLong(cx, cz));
+                if (chunk == null) {
+                    continue;
+                }
+                for (QuarryBlockEntity quarry : chunk) {
+                    BlockPos pos = quarry.getPos();
+                    if (Math.abs(pos.getX() - center.getX()) <= radius && Math.abs(pos.getZ() - center.getZ()) <= radius) {
+                        action.accept(quarry);
+                    }
+                }
+            }
+        }
+    }
+
+    public Collection<QuarryBlockEntity> all() {
+        return Collections.unmodifiableCollection(byPos.values());
+    }
+
+    public int size() {
+        return byPos.size();
+    }
+}
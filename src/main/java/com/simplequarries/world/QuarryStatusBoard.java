@@ -0,0 +1,129 @@
+package com.simplequarries.world;
+
+import com.simplequarries.block.entity.QuarryBlockEntity;
+import com.simplequarries.network.QuarryStatusPayload;
+import com.simplequarries.network.QuarryTerminalClosePayload;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerBlockEntityEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.GlobalPos;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Server-wide summary of every quarry's status, grouped by owner, for quarry terminals.
+ *
+ * Every {@link #INTERVAL} ticks the loaded quarries (from {@link QuarryIndex}) are read
+ * into the board; quarries whose chunk unloaded keep their last entry, marked unloaded.
+ * Terminals only ever read the board, so looking at a quarry never loads or ticks its
+ * chunk. The board lives in memory: after a restart a quarry shows up once its chunk
+ * has been loaded.
+ */
+public final class QuarryStatusBoard {
+    private static final int INTERVAL = 40;
+    private static final Comparator<QuarryStatusPayload.Entry> ORDER = Comparator
+            .comparing((QuarryStatusPayload.Entry entry) -> entry.pos().dimension().getValue().toString())
+            .thenComparingLong(entry -> entry.pos().pos().asLong());
+
+    private record Tracked(UUID owner, QuarryStatusPayload.Entry entry, long blocksMined) {
+    }
+
+    private static final Map<GlobalPos, Tracked> QUARRIES = new HashMap<>();
+    // Player -> entries last sent, null until the first refresh after opening
+    private static final Map<UUID, List<QuarryStatusPayload.Entry>> SUBSCRIBERS = new HashMap<>();
+
+    private QuarryStatusBoard() {}
+
+    public static void register() {
+        ServerPlayNetworking.registerGlobalReceiver(QuarryTerminalClosePayload.ID,
+                (payload, context) -> SUBSCRIBERS.remove(context.player().getUuid()));
+        ServerPlayConnectionEvents.DISCONNECT.register((handler, server) -> SUBSCRIBERS.remove(handler.getPlayer().getUuid()));
+        ServerBlockEntityEvents.BLOCK_ENTITY_UNLOAD.register((blockEntity, world) -> {
+            if (blockEntity instanceof QuarryBlockEntity quarry) {
+                QUARRIES.computeIfPresent(GlobalPos.create(world.getRegistryKey(), quarry.getPos()),
+                        (pos, tracked) -> new Tracked(tracked.owner(), tracked.entry().unloaded(), tracked.blocksMined()));
+            }
+        });
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> {
+            QUARRIES.clear();
+            SUBSCRIBERS.clear();
+        });
+        ServerTickEvents.END_SERVER_TICK.register(server -> {
+            if (server.getTicks() % INTERVAL == 0) {
+                refresh(server);
+            }
+        });
+    }
+
+    /**
+     * Start sending a player the status of their quarries, beginning with the current board
+     */
+    public static void open(ServerPlayerEntity player) {
+        List<QuarryStatusPayload.Entry> entries = entriesOf(player.getUuid());
+        SUBSCRIBERS.put(player.getUuid(), entries);
+        ServerPlayNetworking.send(player, new QuarryStatusPayload(true, entries));
+    }
+
+    /**
+     * Forget a quarry that was broken
+     */
+    public static void remove(ServerWorld world, BlockPos pos) {
+        QUARRIES.remove(GlobalPos.create(world.getRegistryKey(), pos.toImmutable()));
+    }
+
+    private static void refresh(MinecraftServer server) {
+        for (ServerWorld world : server.getWorlds()) {
+            for (QuarryBlockEntity quarry : QuarryIndex.get(world).all()) {
+                UUID owner = quarry.getOwner();
+                if (owner == null || quarry.isRemoved()) {
+                    continue;
+                }
+                GlobalPos pos = GlobalPos.create(world.getRegistryKey(), quarry.getPos());
+                Tracked previous = QUARRIES.get(pos);
+                long mined = quarry.getBlocksMined();
+                int perMinute = previous != null && previous.entry().loaded()
+                        ? (int) Math.max(0L, (mined - previous.blocksMined()) * 1200L / INTERVAL)
+                        : 0;
+                QUARRIES.put(pos, new Tracked(owner, new QuarryStatusPayload.Entry(pos, quarry.getStatus(),
+                        quarry.getCurrentLayerY(), quarry.getBurnTime(), quarry.getFillPercent(), perMinute, true), mined));
+            }
+        }
+
+        if (SUBSCRIBERS.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<UUID, List<QuarryStatusPayload.Entry>> subscriber : SUBSCRIBERS.entrySet()) {
+            ServerPlayerEntity player = server.getPlayerManager().getPlayer(subscriber.getKey());
+            if (player == null) {
+                continue;
+            }
+            List<QuarryStatusPayload.Entry> entries = entriesOf(subscriber.getKey());
+            if (!entries.equals(subscriber.getValue())) {
+                subscriber.setValue(entries);
+                ServerPlayNetworking.send(player, new QuarryStatusPayload(false, entries));
+            }
+        }
+    }
+
+    private static List<QuarryStatusPayload.Entry> entriesOf(UUID owner) {
+        List<QuarryStatusPayload.Entry> entries = new ArrayList<>();
+        for (Tracked tracked : QUARRIES.values()) {
+            if (owner.equals(tracked.owner())) {
+                entries.add(tracked.entry());
+            }
+        }
+        entries.sort(ORDER);
+        return entries;
+    }
+}